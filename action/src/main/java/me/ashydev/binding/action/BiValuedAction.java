@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.action;
+
+import me.ashydev.binding.action.event.ValueChangedEvent;
+
+@FunctionalInterface
+public interface BiValuedAction<T> extends ValuedAction<T> {
+
+    static <T> BiValuedAction<T> empty() {
+        return (old, next) -> {
+        };
+    }
+
+    @Override
+    void accept(T old, T next);
+
+    @Override
+    default void accept(ValueChangedEvent<T> event) {
+        accept(event.getOld(), event.getNew());
+    }
+}
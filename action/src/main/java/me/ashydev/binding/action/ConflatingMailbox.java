@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.action;
+
+import me.ashydev.binding.action.event.ValueChangedEvent;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+public final class ConflatingMailbox<T> implements BiValuedAction<T> {
+    private final ValuedAction<T> consumer;
+    private final Executor executor;
+    private final Runnable drain = this::drain;
+
+    private T first, latest;
+    private boolean pending, scheduled;
+
+    public ConflatingMailbox() {
+        this.consumer = null;
+        this.executor = null;
+    }
+
+    public ConflatingMailbox(ValuedAction<T> consumer, Executor executor) {
+        this.consumer = Objects.requireNonNull(consumer, "consumer");
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    // Only the old value of the first change and the new value of the latest one are kept, so the
+    // producer never allocates and the consumer is woken at most once per drain.
+    @Override
+    public void accept(T old, T next) {
+        boolean wake;
+
+        synchronized (this) {
+            if (!pending) {
+                first = old;
+                pending = true;
+            }
+
+            latest = next;
+            wake = executor != null && !scheduled;
+
+            if (wake) scheduled = true;
+        }
+
+        if (wake) schedule();
+    }
+
+    public synchronized boolean isEmpty() {
+        return !pending;
+    }
+
+    public ValueChangedEvent<T> poll() {
+        T old, next;
+
+        synchronized (this) {
+            if (!pending) return null;
+
+            old = first;
+            next = latest;
+
+            first = latest = null;
+            pending = false;
+        }
+
+        return new ValueChangedEvent<>(old, next);
+    }
+
+    private void schedule() {
+        try {
+            executor.execute(drain);
+        } catch (RejectedExecutionException e) {
+            synchronized (this) {
+                scheduled = false;
+            }
+
+            throw e;
+        }
+    }
+
+    private void drain() {
+        boolean completed = false;
+
+        try {
+            while (true) {
+                T old, next;
+
+                synchronized (this) {
+                    if (!pending) {
+                        scheduled = false;
+                        completed = true;
+
+                        return;
+                    }
+
+                    old = first;
+                    next = latest;
+
+                    first = latest = null;
+                    pending = false;
+                }
+
+                consumer.accept(old, next);
+            }
+        } finally {
+            if (!completed) {
+                boolean reschedule;
+
+                synchronized (this) {
+                    reschedule = pending;
+                    scheduled = reschedule;
+                }
+
+                if (reschedule) schedule();
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.action;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public final class ExecutorAction<E> implements Action<E> {
+    private final Action<E> action;
+    private final Executor executor;
+    private final ConcurrentLinkedQueue<E> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final Runnable drain = this::drain;
+
+    public ExecutorAction(Action<E> action, Executor executor) {
+        this.action = Objects.requireNonNull(action, "action");
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    @Override
+    public void accept(E event) {
+        pending.offer(event);
+
+        schedule();
+    }
+
+    // At most one drain is in flight per listener, which is what keeps delivery in publication order
+    // even on executors that run tasks concurrently.
+    private void schedule() {
+        if (!scheduled.compareAndSet(false, true)) return;
+
+        try {
+            executor.execute(drain);
+        } catch (RejectedExecutionException e) {
+            scheduled.set(false);
+
+            throw e;
+        }
+    }
+
+    private void drain() {
+        try {
+            E event;
+
+            while ((event = pending.poll()) != null) action.accept(event);
+        } finally {
+            scheduled.set(false);
+
+            if (!pending.isEmpty()) schedule();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.action;
+
+@FunctionalInterface
+public interface FloatValuedAction {
+
+    static FloatValuedAction empty() {
+        return (old, next) -> {
+        };
+    }
+
+    void accept(float old, float next);
+}
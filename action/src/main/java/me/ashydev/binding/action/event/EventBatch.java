@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.action.event;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+// Old and new values are stored interleaved in one array that is reused between batches, so a
+// batch is only valid for the duration of the callback it was handed to.
+public final class EventBatch<T> {
+    private Object[] values;
+    private int size;
+
+    public EventBatch(int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException(String.format("Batch capacity must be positive, got %s", capacity));
+
+        this.values = new Object[capacity * 2];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T getOld(int index) {
+        return (T) values[Objects.checkIndex(index, size) * 2];
+    }
+
+    @SuppressWarnings("unchecked")
+    public T getNew(int index) {
+        return (T) values[Objects.checkIndex(index, size) * 2 + 1];
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super T, ? super T> action) {
+        for (int i = 0; i < size * 2; i += 2) action.accept((T) values[i], (T) values[i + 1]);
+    }
+
+    public void append(T old, T next) {
+        if (size * 2 == values.length) values = Arrays.copyOf(values, values.length * 2);
+
+        values[size * 2] = old;
+        values[size * 2 + 1] = next;
+        size++;
+    }
+
+    public void clear() {
+        Arrays.fill(values, 0, size * 2, null);
+        size = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "EventBatch{" +
+                "size=" + size +
+                '}';
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.action.execution;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.ObjLongConsumer;
+
+public class Scheduler {
+    private final ConcurrentLinkedQueue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicLong scheduled = new AtomicLong();
+    private final Runnable drain = this::drain;
+
+    private volatile Thread owner;
+    private volatile long completed;
+    private long target;
+
+    public Scheduler() {
+        this(Thread.currentThread());
+    }
+
+    public Scheduler(Thread owner) {
+        this.owner = Objects.requireNonNull(owner, "owner");
+    }
+
+    public Thread getOwner() {
+        return owner;
+    }
+
+    public void setOwner(Thread owner) {
+        this.owner = Objects.requireNonNull(owner, "owner");
+    }
+
+    public boolean isOwnerThread() {
+        return Thread.currentThread() == owner;
+    }
+
+    public void schedule(Runnable task) {
+        tasks.offer(Objects.requireNonNull(task, "task"));
+
+        scheduled.incrementAndGet();
+    }
+
+    // Operation forms of schedule let callers pass a shared, non-capturing operation together with
+    // its arguments; schedulers backed by preallocated slots store them without allocating.
+    public <T, V> void schedule(BiConsumer<? super T, ? super V> operation, T target, V value) {
+        Objects.requireNonNull(operation, "operation");
+
+        schedule(() -> operation.accept(target, value));
+    }
+
+    public <T> void schedule(ObjLongConsumer<? super T> operation, T target, long value) {
+        Objects.requireNonNull(operation, "operation");
+
+        schedule(() -> operation.accept(target, value));
+    }
+
+    public void execute(Runnable task) {
+        if (isOwnerThread()) task.run();
+        else schedule(task);
+    }
+
+    public boolean hasPending() {
+        return scheduled.get() != completed;
+    }
+
+    // Runs everything scheduled before the call; tasks scheduled while updating wait for the next tick.
+    public int update() {
+        if (!isOwnerThread())
+            throw new IllegalStateException(String.format("%s can only be updated from its owner thread %s, but was updated from %s", this, owner, Thread.currentThread()));
+
+        long start = completed;
+        target = scheduled.get();
+
+        if (start == target) return 0;
+
+        runBatch(drain);
+
+        return (int) (completed - start);
+    }
+
+    protected void runBatch(Runnable batch) {
+        batch.run();
+    }
+
+    private void drain() {
+        while (completed != target) {
+            Runnable task = tasks.poll();
+
+            if (task == null) return;
+
+            completed++;
+
+            task.run();
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.action.execution;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+public final class TimerWheel {
+    private static final TimerWheel SHARED = new TimerWheel(Duration.ofMillis(1), 512);
+
+    private final long tickNanos;
+    private final int mask;
+    private final Bucket[] buckets;
+    private final ConcurrentLinkedQueue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final long start = System.nanoTime();
+
+    private volatile Thread worker;
+    private volatile int scheduled;
+    private long tick;
+
+    public TimerWheel(Duration tick, int wheelSize) {
+        if (tick.isNegative() || tick.isZero())
+            throw new IllegalArgumentException(String.format("Tick duration must be positive, got %s", tick));
+
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1)
+            throw new IllegalArgumentException(String.format("Wheel size must be a positive power of two, got %s", wheelSize));
+
+        this.tickNanos = tick.toNanos();
+        this.mask = wheelSize - 1;
+        this.buckets = new Bucket[wheelSize];
+
+        for (int i = 0; i < wheelSize; i++) buckets[i] = new Bucket();
+    }
+
+    public static TimerWheel shared() {
+        return SHARED;
+    }
+
+    public Timeout schedule(Runnable task, Duration delay) {
+        return schedule(task, delay.toNanos());
+    }
+
+    public Timeout schedule(Runnable task, long delayNanos) {
+        Timeout timeout = new Timeout(this, Objects.requireNonNull(task, "task"), System.nanoTime() + Math.max(0, delayNanos));
+
+        pending.offer(timeout);
+
+        Thread worker = this.worker;
+
+        if (worker == null) worker = start();
+
+        LockSupport.unpark(worker);
+
+        return timeout;
+    }
+
+    // Timeouts sitting in the wheel, excluding ones not yet handed over to the worker.
+    public int size() {
+        return scheduled;
+    }
+
+    private synchronized Thread start() {
+        if (worker != null) return worker;
+
+        Thread thread = new Thread(this::run, "binding-timer-wheel");
+        thread.setDaemon(true);
+
+        worker = thread;
+        thread.start();
+
+        return thread;
+    }
+
+    // Only the worker thread touches the buckets; producers hand timeouts over through the pending
+    // queue and cancellations through the cancelled queue.
+    private void run() {
+        while (true) {
+            transfer();
+
+            if (scheduled == 0 && pending.isEmpty()) {
+                LockSupport.park(this);
+
+                tick = Math.max(tick, (System.nanoTime() - start) / tickNanos);
+            }
+
+            transfer();
+
+            long deadline = start + (tick + 1) * tickNanos;
+            long now;
+
+            while ((now = System.nanoTime()) < deadline) {
+                LockSupport.parkNanos(this, deadline - now);
+
+                transfer();
+            }
+
+            expire(buckets[(int) (tick & mask)]);
+
+            tick++;
+        }
+    }
+
+    private void transfer() {
+        Timeout timeout;
+
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.cancelled) continue;
+
+            long ticks = Math.max((timeout.deadline - start + tickNanos - 1) / tickNanos, tick);
+
+            timeout.rounds = (ticks - tick) / buckets.length;
+            buckets[(int) (ticks & mask)].add(timeout);
+            scheduled++;
+        }
+
+        // Cancelled timeouts leave their bucket right away, so debounce churn cannot keep dead
+        // entries around, or the wheel ticking, until their deadline comes up.
+        while ((timeout = cancelled.poll()) != null) {
+            if (timeout.bucket == null) continue;
+
+            timeout.bucket.remove(timeout);
+            scheduled--;
+        }
+    }
+
+    private void expire(Bucket bucket) {
+        for (Timeout timeout = bucket.head, next; timeout != null; timeout = next) {
+            next = timeout.next;
+
+            if (!timeout.cancelled && timeout.rounds > 0) {
+                timeout.rounds--;
+
+                continue;
+            }
+
+            bucket.remove(timeout);
+            scheduled--;
+
+            if (timeout.cancelled) continue;
+
+            try {
+                timeout.task.run();
+            } catch (Throwable throwable) {
+                Thread thread = Thread.currentThread();
+
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, throwable);
+            }
+        }
+    }
+
+    // Intrusive list so a cancelled timeout is unlinked in constant time.
+    private static final class Bucket {
+        private Timeout head, tail;
+
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+            timeout.prev = tail;
+            timeout.next = null;
+
+            if (tail == null) head = timeout;
+            else tail.next = timeout;
+
+            tail = timeout;
+        }
+
+        private void remove(Timeout timeout) {
+            if (timeout.prev == null) head = timeout.next;
+            else timeout.prev.next = timeout.next;
+
+            if (timeout.next == null) tail = timeout.prev;
+            else timeout.next.prev = timeout.prev;
+
+            timeout.bucket = null;
+            timeout.prev = timeout.next = null;
+        }
+    }
+
+    public static final class Timeout {
+        private final TimerWheel wheel;
+        private final Runnable task;
+        private final long deadline;
+        private volatile boolean cancelled;
+
+        // Owned by the worker thread.
+        private long rounds;
+        private Bucket bucket;
+        private Timeout prev, next;
+
+        private Timeout(TimerWheel wheel, Runnable task, long deadline) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        public void cancel() {
+            if (cancelled) return;
+
+            cancelled = true;
+            wheel.cancelled.offer(this);
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
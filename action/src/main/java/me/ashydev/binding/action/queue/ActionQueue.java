@@ -8,12 +8,16 @@
 package me.ashydev.binding.action.queue;
 
 import me.ashydev.binding.action.Action;
+import me.ashydev.binding.action.Subscription;
 import me.ashydev.binding.action.execution.IExecutable;
 
-import java.util.ArrayDeque;
+import java.lang.ref.Reference;
+import java.time.Duration;
 import java.util.Collection;
+import java.util.concurrent.Flow;
+import java.util.function.BiConsumer;
 
-public class ActionQueue<E> extends ArrayDeque<Action<E>> implements IExecutable<E> {
+public class ActionQueue<E> extends ListenerQueue<Action<E>> implements IExecutable<E> {
     public ActionQueue() {
     }
 
@@ -26,9 +30,75 @@ public class ActionQueue<E> extends ArrayDeque<Action<E>> implements IExecutable
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public boolean execute(E event) {
-        for (Action<E> e : this) e.accept(event);
+        Object snapshot = snapshot();
+
+        if (snapshot == null) return true;
+
+        if (snapshot instanceof Slot<?> single) {
+            try {
+                if (single.isSubscribed()) ((Action<E>) single.listener()).accept(event);
+            } catch (RuntimeException e) {
+                fail(single, e);
+            }
+
+            return true;
+        }
+
+        Slot<?>[] slots = (Slot<?>[]) snapshot;
+
+        for (int index = 0; index < slots.length; index++) {
+            try {
+                for (; index < slots.length; index++) {
+                    Slot<?> slot = slots[index];
+
+                    if (slot.isSubscribed()) ((Action<E>) slot.listener()).accept(event);
+                }
+            } catch (RuntimeException e) {
+                fail(slots[index], e);
+            }
+        }
 
         return true;
     }
+
+    // Trailing and sampled deliveries run on the shared timer wheel thread, which every timer in the
+    // process shares; wrap a slow listener in an ExecutorAction so it does not hold the wheel up.
+    public Subscription debounce(Duration window, Action<E> action) {
+        return subscribe(new RateLimitedAction<>(RateLimitedAction.Mode.DEBOUNCE, window, action, this::merge));
+    }
+
+    public Subscription throttle(Duration window, Action<E> action) {
+        return subscribe(new RateLimitedAction<>(RateLimitedAction.Mode.THROTTLE, window, action, this::merge));
+    }
+
+    public Subscription sample(Duration window, Action<E> action) {
+        return subscribe(new RateLimitedAction<>(RateLimitedAction.Mode.SAMPLE, window, action, this::merge));
+    }
+
+    // The listener is only reachable through the owner, so a subscriber that is dropped without
+    // unsubscribing is purged on a later registration instead of being pinned by this queue.
+    public <O> Subscription subscribeWeak(O owner, BiConsumer<? super O, ? super E> action) {
+        if (owner == null) throw new NullPointerException("owner");
+        if (action == null) throw new NullPointerException("action");
+
+        WeakAction<O, E> weak = new WeakAction<>(owner, action);
+        Subscription subscription = subscribe(weak);
+
+        weak.attach(subscription);
+        Reference.reachabilityFence(owner);
+
+        return subscription;
+    }
+
+    // Each subscriber gets its own buffer of at most capacity events; the strategy decides what
+    // happens when it lags behind instead of the backlog growing without bound.
+    public Flow.Publisher<E> publisher(OverflowStrategy strategy, int capacity) {
+        return new QueuePublisher<>(this, strategy, capacity, this::merge);
+    }
+
+    protected E merge(E first, E latest) {
+        return latest;
+    }
 }
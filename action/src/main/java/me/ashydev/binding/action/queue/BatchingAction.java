@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.action.queue;
+
+import me.ashydev.binding.action.BiValuedAction;
+import me.ashydev.binding.action.event.EventBatch;
+import me.ashydev.binding.action.execution.TimerWheel;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.function.Consumer;
+
+final class BatchingAction<T> implements BiValuedAction<T>, Detachable {
+    private final Consumer<EventBatch<T>> consumer;
+    private final int maxBatch;
+    private final long maxDelay;
+    private final Object delivery = new Object();
+    private final Runnable flush = this::flush;
+
+    // Producers append to the active batch and hand it off once full, under this lock, so a batch
+    // never grows past maxBatch. Handed-off batches are delivered in order under the delivery lock
+    // and only recycled once their consumer has returned, so a batch is never written while delivered.
+    private final ArrayDeque<EventBatch<T>> ready = new ArrayDeque<>();
+    private EventBatch<T> active, spare;
+    private TimerWheel.Timeout timeout;
+    private boolean detached, delivering;
+
+    BatchingAction(Consumer<EventBatch<T>> consumer, int maxBatch, Duration maxDelay) {
+        if (maxBatch <= 0)
+            throw new IllegalArgumentException(String.format("Batch size must be positive, got %s", maxBatch));
+
+        if (maxDelay.isNegative() || maxDelay.isZero())
+            throw new IllegalArgumentException(String.format("Batch delay must be positive, got %s", maxDelay));
+
+        this.consumer = consumer;
+        this.maxBatch = maxBatch;
+        this.maxDelay = maxDelay.toNanos();
+        this.active = new EventBatch<>(maxBatch);
+        this.spare = new EventBatch<>(maxBatch);
+    }
+
+    @Override
+    public void accept(T old, T next) {
+        synchronized (this) {
+            if (detached) return;
+
+            if (active.isEmpty()) timeout = TimerWheel.shared().schedule(flush, maxDelay);
+
+            active.append(old, next);
+
+            if (active.size() < maxBatch) return;
+
+            handOff();
+        }
+
+        deliver();
+    }
+
+    @Override
+    public void detach() {
+        synchronized (this) {
+            detached = true;
+            active.clear();
+            ready.clear();
+
+            if (timeout != null) timeout.cancel();
+
+            timeout = null;
+        }
+    }
+
+    private void flush() {
+        synchronized (this) {
+            if (detached || active.isEmpty()) return;
+
+            handOff();
+        }
+
+        deliver();
+    }
+
+    private void handOff() {
+        ready.add(active);
+
+        active = spare != null ? spare : new EventBatch<>(maxBatch);
+        spare = null;
+
+        if (timeout != null) timeout.cancel();
+
+        timeout = null;
+    }
+
+    private void deliver() {
+        synchronized (delivery) {
+            // A consumer that feeds this action again only hands off its batch; the running loop
+            // delivers it after the current one instead of re-entering the consumer.
+            if (delivering) return;
+
+            delivering = true;
+
+            try {
+                while (true) {
+                    EventBatch<T> batch;
+
+                    synchronized (this) {
+                        batch = detached ? null : ready.poll();
+                    }
+
+                    if (batch == null) return;
+
+                    try {
+                        consumer.accept(batch);
+                    } finally {
+                        batch.clear();
+
+                        synchronized (this) {
+                            if (spare == null) spare = batch;
+                        }
+                    }
+                }
+            } finally {
+                delivering = false;
+            }
+        }
+    }
+}
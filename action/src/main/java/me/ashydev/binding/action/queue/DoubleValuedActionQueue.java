@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.action.queue;
+
+import me.ashydev.binding.action.DoubleValuedAction;
+
+import java.util.Collection;
+
+public class DoubleValuedActionQueue extends ListenerQueue<DoubleValuedAction> {
+    public DoubleValuedActionQueue() {
+        super();
+    }
+
+    public DoubleValuedActionQueue(int numElements) {
+        super(numElements);
+    }
+
+    public DoubleValuedActionQueue(Collection<? extends DoubleValuedAction> c) {
+        super(c);
+    }
+
+    public boolean execute(double old, double next) {
+        Object snapshot = snapshot();
+
+        if (snapshot == null) return true;
+
+        if (snapshot instanceof Slot<?> single) {
+            try {
+                if (single.isSubscribed()) ((DoubleValuedAction) single.listener()).accept(old, next);
+            } catch (RuntimeException e) {
+                fail(single, e);
+            }
+
+            return true;
+        }
+
+        Slot<?>[] slots = (Slot<?>[]) snapshot;
+
+        for (int index = 0; index < slots.length; index++) {
+            try {
+                for (; index < slots.length; index++) {
+                    Slot<?> slot = slots[index];
+
+                    if (slot.isSubscribed()) ((DoubleValuedAction) slot.listener()).accept(old, next);
+                }
+            } catch (RuntimeException e) {
+                fail(slots[index], e);
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.action.queue;
+
+import java.util.Objects;
+
+public record FailurePolicy(Mode mode, int threshold) {
+    public static final FailurePolicy PROPAGATE = new FailurePolicy(Mode.PROPAGATE, 0);
+    public static final FailurePolicy LOG_AND_CONTINUE = new FailurePolicy(Mode.LOG_AND_CONTINUE, 0);
+
+    public FailurePolicy {
+        Objects.requireNonNull(mode, "mode");
+
+        if (mode == Mode.UNSUBSCRIBE && threshold <= 0)
+            throw new IllegalArgumentException(String.format("Failure threshold must be positive, got %s", threshold));
+    }
+
+    public static FailurePolicy unsubscribeAfter(int failures) {
+        return new FailurePolicy(Mode.UNSUBSCRIBE, failures);
+    }
+
+    public enum Mode {
+        PROPAGATE,
+        LOG_AND_CONTINUE,
+        UNSUBSCRIBE
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.action.queue;
+
+import me.ashydev.binding.action.FloatValuedAction;
+
+import java.util.Collection;
+
+public class FloatValuedActionQueue extends ListenerQueue<FloatValuedAction> {
+    public FloatValuedActionQueue() {
+        super();
+    }
+
+    public FloatValuedActionQueue(int numElements) {
+        super(numElements);
+    }
+
+    public FloatValuedActionQueue(Collection<? extends FloatValuedAction> c) {
+        super(c);
+    }
+
+    public boolean execute(float old, float next) {
+        Object snapshot = snapshot();
+
+        if (snapshot == null) return true;
+
+        if (snapshot instanceof Slot<?> single) {
+            try {
+                if (single.isSubscribed()) ((FloatValuedAction) single.listener()).accept(old, next);
+            } catch (RuntimeException e) {
+                fail(single, e);
+            }
+
+            return true;
+        }
+
+        Slot<?>[] slots = (Slot<?>[]) snapshot;
+
+        for (int index = 0; index < slots.length; index++) {
+            try {
+                for (; index < slots.length; index++) {
+                    Slot<?> slot = slots[index];
+
+                    if (slot.isSubscribed()) ((FloatValuedAction) slot.listener()).accept(old, next);
+                }
+            } catch (RuntimeException e) {
+                fail(slots[index], e);
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,355 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.action.queue;
+
+import me.ashydev.binding.action.Subscription;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+public abstract class ListenerQueue<L> extends AbstractCollection<L> {
+    private static final Slot<?>[] EMPTY = new Slot<?>[0];
+    private static final System.Logger LOGGER = System.getLogger(ListenerQueue.class.getName());
+    private static final VarHandle STATE, DEAD, QUEUE, FAILURES;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+            STATE = lookup.findVarHandle(ListenerQueue.class, "state", Object.class);
+            DEAD = lookup.findVarHandle(ListenerQueue.class, "dead", int.class);
+            QUEUE = lookup.findVarHandle(Slot.class, "queue", ListenerQueue.class);
+            FAILURES = lookup.findVarHandle(Slot.class, "failures", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // Either null, a single Slot or a Slot[] of two or more. Published states are never modified,
+    // unsubscribed slots stay in place until the next add or compaction copies them out.
+    private volatile Object state;
+    private int dead;
+    private volatile FailurePolicy failurePolicy = FailurePolicy.PROPAGATE;
+
+    public ListenerQueue() {
+    }
+
+    public ListenerQueue(int numElements) {
+        if (numElements < 0)
+            throw new IllegalArgumentException(String.format("Capacity must not be negative, got %s", numElements));
+    }
+
+    // Fills the initial state directly rather than through the overridable add, all at the
+    // default priority in iteration order, which is exactly what repeated subscribes would build.
+    public ListenerQueue(Collection<? extends L> c) {
+        Slot<?>[] slots = new Slot<?>[c.size()];
+        int size = 0;
+
+        for (L listener : c) {
+            if (listener == null) throw new NullPointerException("listener");
+
+            if (size == slots.length) slots = Arrays.copyOf(slots, size + 1);
+
+            slots[size++] = new Slot<>(this, listener, 0);
+        }
+
+        this.state = pack(slots, size);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <L> Slot<L>[] slots(Object state) {
+        if (state == null) return (Slot<L>[]) EMPTY;
+        if (state instanceof Slot<?> slot) return (Slot<L>[]) new Slot<?>[]{slot};
+
+        return (Slot<L>[]) state;
+    }
+
+    private static Object pack(Slot<?>[] slots, int size) {
+        if (size == 0) return null;
+        if (size == 1) return slots[0];
+
+        return size == slots.length ? slots : Arrays.copyOf(slots, size);
+    }
+
+    public FailurePolicy getFailurePolicy() {
+        return failurePolicy;
+    }
+
+    public void setFailurePolicy(FailurePolicy failurePolicy) {
+        this.failurePolicy = Objects.requireNonNull(failurePolicy, "failurePolicy");
+    }
+
+    public int failures(Subscription subscription) {
+        if (!(subscription instanceof Slot<?> slot))
+            throw new IllegalArgumentException(String.format("%s was not returned by a listener queue", subscription));
+
+        return slot.getFailures();
+    }
+
+    // Dispatch loops wrap all listeners in a single guarded region and resume after the faulting
+    // index, so the happy path carries no per-listener handler and only failures land here.
+    protected final void fail(Slot<?> slot, RuntimeException exception) {
+        FailurePolicy policy = failurePolicy;
+        int failures = (int) FAILURES.getAndAdd(slot, 1) + 1;
+
+        if (policy.mode() == FailurePolicy.Mode.PROPAGATE) throw exception;
+
+        LOGGER.log(System.Logger.Level.WARNING, String.format("Listener %s failed (%s failures)", slot.listener, failures), exception);
+
+        if (policy.mode() == FailurePolicy.Mode.UNSUBSCRIBE && failures >= policy.threshold()) slot.unsubscribe();
+    }
+
+    // The returned state is shared between dispatching threads and must never be modified.
+    protected final Object snapshot() {
+        return state;
+    }
+
+    public Subscription subscribe(L listener) {
+        return subscribe(listener, 0);
+    }
+
+    // Higher priorities are dispatched first and equal priorities keep registration order, so the
+    // published array is already in dispatch order and execute never sorts.
+    public Subscription subscribe(L listener, int priority) {
+        if (listener == null) throw new NullPointerException("listener");
+
+        // Collected weak listeners are purged here rather than on dispatch, keeping execute free of
+        // reference checks while still bounding how long a dead listener occupies a queue.
+        WeakAction.expunge();
+
+        Slot<L> slot = new Slot<>(this, listener, priority);
+
+        while (true) {
+            Object current = state;
+            Object next;
+            int dropped = 0;
+
+            if (current == null) {
+                next = slot;
+            } else if (current instanceof Slot<?> single) {
+                if (!single.isSubscribed()) {
+                    next = slot;
+                    dropped = 1;
+                } else {
+                    next = single.priority >= priority ? new Slot<?>[]{single, slot} : new Slot<?>[]{slot, single};
+                }
+            } else {
+                Slot<?>[] slots = (Slot<?>[]) current;
+                Slot<?>[] copy = new Slot<?>[slots.length + 1];
+                boolean inserted = false;
+                int size = 0;
+
+                for (Slot<?> existing : slots) {
+                    if (!existing.isSubscribed()) continue;
+
+                    if (!inserted && existing.priority < priority) {
+                        copy[size++] = slot;
+                        inserted = true;
+                    }
+
+                    copy[size++] = existing;
+                }
+
+                if (!inserted) copy[size++] = slot;
+
+                dropped = slots.length + 1 - size;
+                next = pack(copy, size);
+            }
+
+            if (STATE.compareAndSet(this, current, next)) {
+                if (dropped != 0) DEAD.getAndAdd(this, -dropped);
+
+                return slot;
+            }
+        }
+    }
+
+    @Override
+    public boolean add(L listener) {
+        subscribe(listener);
+
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object listener) {
+        for (Slot<L> slot : ListenerQueue.<L>slots(state)) {
+            if (slot.listener.equals(listener) && slot.isSubscribed()) {
+                slot.unsubscribe();
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void discard(Slot<L> slot) {
+        Object current = state;
+
+        if (current == slot) {
+            if (STATE.compareAndSet(this, current, null)) return;
+
+            current = state;
+        }
+
+        if (!(current instanceof Slot<?>[] slots)) return;
+
+        // Copy the survivors out once at least half of the published slots are dead, which keeps
+        // unsubscribe O(1) amortized instead of paying a full copy per removal.
+        if (((int) DEAD.getAndAdd(this, 1) + 1) * 2 >= slots.length) compact();
+    }
+
+    private void compact() {
+        while (true) {
+            Object current = state;
+
+            if (!(current instanceof Slot<?>[] slots)) return;
+
+            Slot<?>[] copy = new Slot<?>[slots.length];
+            int size = 0;
+
+            for (Slot<?> existing : slots) {
+                if (existing.isSubscribed()) copy[size++] = existing;
+            }
+
+            if (size == slots.length) {
+                DEAD.setVolatile(this, 0);
+
+                return;
+            }
+
+            if (STATE.compareAndSet(this, current, pack(copy, size))) {
+                DEAD.getAndAdd(this, size - slots.length);
+
+                return;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+
+        for (Slot<L> slot : ListenerQueue.<L>slots(state)) {
+            if (slot.isSubscribed()) size++;
+        }
+
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (Slot<L> slot : ListenerQueue.<L>slots(state)) {
+            if (slot.isSubscribed()) return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        Object current = STATE.getAndSet(this, null);
+
+        for (Slot<?> slot : slots(current)) {
+            if (QUEUE.getAndSet(slot, null) != null) slot.detach();
+        }
+
+        DEAD.setVolatile(this, 0);
+    }
+
+    @Override
+    public Iterator<L> iterator() {
+        return new Iterator<>() {
+            private final Slot<L>[] slots = slots(state);
+            private int index = advance(0);
+            private Slot<L> last;
+
+            private int advance(int from) {
+                while (from < slots.length && !slots[from].isSubscribed()) from++;
+
+                return from;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return index < slots.length;
+            }
+
+            @Override
+            public L next() {
+                if (index >= slots.length) throw new NoSuchElementException();
+
+                last = slots[index];
+                index = advance(index + 1);
+
+                return last.listener;
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) throw new IllegalStateException();
+
+                last.unsubscribe();
+                last = null;
+            }
+        };
+    }
+
+    protected static final class Slot<L> implements Subscription {
+        private final L listener;
+        private final int priority;
+        private volatile ListenerQueue<L> queue;
+        private volatile int failures;
+
+        private Slot(ListenerQueue<L> queue, L listener, int priority) {
+            this.queue = queue;
+            this.listener = listener;
+            this.priority = priority;
+        }
+
+        public L listener() {
+            return listener;
+        }
+
+        public int priority() {
+            return priority;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void unsubscribe() {
+            ListenerQueue<L> queue = (ListenerQueue<L>) QUEUE.getAndSet(this, null);
+
+            if (queue == null) return;
+
+            queue.discard(this);
+            detach();
+        }
+
+        // Listeners that hold timers or buffers release them once they can no longer be dispatched to.
+        private void detach() {
+            if (listener instanceof Detachable detachable) detachable.detach();
+        }
+
+        @Override
+        public boolean isSubscribed() {
+            return queue != null;
+        }
+
+        public int getFailures() {
+            return failures;
+        }
+    }
+}
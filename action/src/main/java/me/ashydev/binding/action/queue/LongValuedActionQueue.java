@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.action.queue;
+
+import me.ashydev.binding.action.LongValuedAction;
+
+import java.util.Collection;
+
+public class LongValuedActionQueue extends ListenerQueue<LongValuedAction> {
+    public LongValuedActionQueue() {
+        super();
+    }
+
+    public LongValuedActionQueue(int numElements) {
+        super(numElements);
+    }
+
+    public LongValuedActionQueue(Collection<? extends LongValuedAction> c) {
+        super(c);
+    }
+
+    public boolean execute(long old, long next) {
+        Object snapshot = snapshot();
+
+        if (snapshot == null) return true;
+
+        if (snapshot instanceof Slot<?> single) {
+            try {
+                if (single.isSubscribed()) ((LongValuedAction) single.listener()).accept(old, next);
+            } catch (RuntimeException e) {
+                fail(single, e);
+            }
+
+            return true;
+        }
+
+        Slot<?>[] slots = (Slot<?>[]) snapshot;
+
+        for (int index = 0; index < slots.length; index++) {
+            try {
+                for (; index < slots.length; index++) {
+                    Slot<?> slot = slots[index];
+
+                    if (slot.isSubscribed()) ((LongValuedAction) slot.listener()).accept(old, next);
+                }
+            } catch (RuntimeException e) {
+                fail(slots[index], e);
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,14 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.action.queue;
+
+public enum OverflowStrategy {
+    DROP_OLDEST,
+    CONFLATE,
+    BUFFER_BOUNDED
+}
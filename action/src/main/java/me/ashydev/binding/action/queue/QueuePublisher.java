@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.action.queue;
+
+import me.ashydev.binding.action.Action;
+import me.ashydev.binding.action.Subscription;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BinaryOperator;
+
+final class QueuePublisher<E> implements Flow.Publisher<E> {
+    private final ActionQueue<E> queue;
+    private final OverflowStrategy strategy;
+    private final int capacity;
+    private final BinaryOperator<E> merge;
+
+    QueuePublisher(ActionQueue<E> queue, OverflowStrategy strategy, int capacity, BinaryOperator<E> merge) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException(String.format("Publisher capacity must be positive, got %s", capacity));
+
+        this.queue = queue;
+        this.strategy = Objects.requireNonNull(strategy, "strategy");
+        this.capacity = capacity;
+        this.merge = merge;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super E> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+
+        Inner<E> inner = new Inner<>(this, subscriber);
+
+        subscriber.onSubscribe(inner);
+
+        if (inner.cancelled) return;
+
+        inner.subscription = queue.subscribe(inner);
+
+        if (inner.cancelled) inner.subscription.unsubscribe();
+    }
+
+    // Delivery happens on whichever thread produces an event or requests more, serialized by the
+    // work-in-progress counter, so a subscriber never gets a thread of its own.
+    private static final class Inner<E> implements Flow.Subscription, Action<E> {
+        private final QueuePublisher<E> publisher;
+        private final Flow.Subscriber<? super E> subscriber;
+        private final ArrayDeque<E> buffer = new ArrayDeque<>();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile Subscription subscription;
+        private volatile boolean cancelled;
+        private long demand;
+        private Throwable error;
+
+        private Inner(QueuePublisher<E> publisher, Flow.Subscriber<? super E> subscriber) {
+            this.publisher = publisher;
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void accept(E event) {
+            synchronized (this) {
+                if (cancelled || error != null) return;
+
+                if (buffer.size() < publisher.capacity) {
+                    buffer.add(event);
+                } else {
+                    switch (publisher.strategy) {
+                        case DROP_OLDEST -> {
+                            buffer.poll();
+                            buffer.add(event);
+                        }
+                        case CONFLATE -> buffer.add(publisher.merge.apply(buffer.pollLast(), event));
+                        case BUFFER_BOUNDED -> error = new IllegalStateException(
+                                String.format("Subscriber %s fell behind by more than %s events", subscriber, publisher.capacity));
+                    }
+                }
+            }
+
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (n <= 0) {
+                    if (error == null) error = new IllegalArgumentException(String.format("Requested amount must be positive, got %s", n));
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+            }
+
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+
+            Subscription subscription = this.subscription;
+
+            if (subscription != null) subscription.unsubscribe();
+
+            synchronized (this) {
+                buffer.clear();
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) return;
+
+            int missed = 1;
+
+            do {
+                while (true) {
+                    E next;
+                    Throwable failure = null;
+
+                    synchronized (this) {
+                        if (cancelled) return;
+
+                        if (error != null) {
+                            failure = error;
+                            next = null;
+                        } else {
+                            if (demand == 0 || buffer.isEmpty()) break;
+
+                            next = buffer.poll();
+
+                            if (demand != Long.MAX_VALUE) demand--;
+                        }
+                    }
+
+                    if (failure != null) {
+                        cancel();
+                        subscriber.onError(failure);
+
+                        return;
+                    }
+
+                    try {
+                        subscriber.onNext(next);
+                    } catch (Throwable throwable) {
+                        cancel();
+
+                        throw throwable;
+                    }
+                }
+
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
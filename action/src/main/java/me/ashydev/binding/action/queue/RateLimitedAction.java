@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.action.queue;
+
+import me.ashydev.binding.action.Action;
+import me.ashydev.binding.action.execution.TimerWheel;
+
+import java.time.Duration;
+import java.util.function.BinaryOperator;
+
+final class RateLimitedAction<E> implements Action<E>, Detachable {
+    enum Mode {
+        DEBOUNCE,
+        THROTTLE,
+        SAMPLE
+    }
+
+    private final Mode mode;
+    private final long window;
+    private final Action<E> action;
+    private final BinaryOperator<E> merge;
+    private final TimerWheel timer = TimerWheel.shared();
+    private final Runnable fire = this::fire;
+
+    private E first, latest;
+    private boolean pending, detached;
+    private long lastChange;
+    private TimerWheel.Timeout timeout;
+
+    RateLimitedAction(Mode mode, Duration window, Action<E> action, BinaryOperator<E> merge) {
+        if (window.isNegative() || window.isZero())
+            throw new IllegalArgumentException(String.format("Rate limiting window must be positive, got %s", window));
+
+        this.mode = mode;
+        this.window = window.toNanos();
+        this.action = action;
+        this.merge = merge;
+    }
+
+    // Each change only records the event and, when no timer is armed yet, arms one; the timer
+    // re-arms itself for debounce instead of being cancelled and rescheduled per change.
+    @Override
+    public void accept(E event) {
+        boolean leading = false;
+
+        synchronized (this) {
+            if (detached) return;
+
+            if (mode == Mode.THROTTLE && timeout == null) {
+                leading = true;
+                timeout = timer.schedule(fire, window);
+            } else {
+                if (!pending) first = event;
+
+                latest = event;
+                pending = true;
+                lastChange = System.nanoTime();
+
+                if (timeout == null) timeout = timer.schedule(fire, window);
+            }
+        }
+
+        if (leading) action.accept(event);
+    }
+
+    @Override
+    public void detach() {
+        synchronized (this) {
+            detached = true;
+            pending = false;
+            first = latest = null;
+
+            if (timeout != null) timeout.cancel();
+
+            timeout = null;
+        }
+    }
+
+    private void fire() {
+        E first, latest;
+
+        synchronized (this) {
+            if (detached || !pending) {
+                timeout = null;
+
+                return;
+            }
+
+            if (mode == Mode.DEBOUNCE) {
+                long remaining = lastChange + window - System.nanoTime();
+
+                if (remaining > 0) {
+                    timeout = timer.schedule(fire, remaining);
+
+                    return;
+                }
+            }
+
+            first = this.first;
+            latest = this.latest;
+
+            this.first = this.latest = null;
+            pending = false;
+
+            timeout = mode == Mode.THROTTLE ? timer.schedule(fire, window) : null;
+        }
+
+        action.accept(first == latest ? latest : merge.apply(first, latest));
+    }
+}
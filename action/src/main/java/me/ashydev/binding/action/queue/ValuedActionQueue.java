@@ -8,9 +8,14 @@
 package me.ashydev.binding.action.queue;
 
 import me.ashydev.binding.action.Action;
+import me.ashydev.binding.action.BiValuedAction;
+import me.ashydev.binding.action.Subscription;
+import me.ashydev.binding.action.event.EventBatch;
 import me.ashydev.binding.action.event.ValueChangedEvent;
 
+import java.time.Duration;
 import java.util.Collection;
+import java.util.function.Consumer;
 
 public class ValuedActionQueue<T> extends ActionQueue<ValueChangedEvent<T>> {
     public ValuedActionQueue() {
@@ -24,4 +29,63 @@ public class ValuedActionQueue<T> extends ActionQueue<ValueChangedEvent<T>> {
     public ValuedActionQueue(Collection<? extends Action<ValueChangedEvent<T>>> c) {
         super(c);
     }
+
+    @SuppressWarnings("unchecked")
+    public boolean execute(T old, T next) {
+        Object snapshot = snapshot();
+
+        if (snapshot == null) return true;
+
+        if (snapshot instanceof Slot<?> single) {
+            try {
+                if (single.isSubscribed()) dispatch((Action<ValueChangedEvent<T>>) single.listener(), old, next, null);
+            } catch (RuntimeException e) {
+                fail(single, e);
+            }
+
+            return true;
+        }
+
+        Slot<?>[] slots = (Slot<?>[]) snapshot;
+        ValueChangedEvent<T> event = null;
+
+        for (int index = 0; index < slots.length; index++) {
+            try {
+                for (; index < slots.length; index++) {
+                    Slot<?> slot = slots[index];
+
+                    if (slot.isSubscribed()) event = dispatch((Action<ValueChangedEvent<T>>) slot.listener(), old, next, event);
+                }
+            } catch (RuntimeException e) {
+                fail(slots[index], e);
+            }
+        }
+
+        return true;
+    }
+
+    // A batch that fills up is delivered on the producing thread before execute returns, one that
+    // times out is delivered on the shared timer wheel thread.
+    public Subscription batch(int maxBatch, Duration maxDelay, Consumer<EventBatch<T>> consumer) {
+        return subscribe(new BatchingAction<>(consumer, maxBatch, maxDelay));
+    }
+
+    @Override
+    protected ValueChangedEvent<T> merge(ValueChangedEvent<T> first, ValueChangedEvent<T> latest) {
+        return new ValueChangedEvent<>(first.getOld(), latest.getNew());
+    }
+
+    private static <T> ValueChangedEvent<T> dispatch(Action<ValueChangedEvent<T>> action, T old, T next, ValueChangedEvent<T> event) {
+        if (action instanceof BiValuedAction<T> direct) {
+            direct.accept(old, next);
+
+            return event;
+        }
+
+        if (event == null) event = new ValueChangedEvent<>(old, next);
+
+        action.accept(event);
+
+        return event;
+    }
 }
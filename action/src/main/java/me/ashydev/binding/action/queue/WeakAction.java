@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.action.queue;
+
+import me.ashydev.binding.action.Action;
+import me.ashydev.binding.action.Subscription;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.function.BiConsumer;
+
+final class WeakAction<O, E> extends WeakReference<O> implements Action<E> {
+    private static final ReferenceQueue<Object> QUEUE = new ReferenceQueue<>();
+
+    private final BiConsumer<? super O, ? super E> action;
+
+    private Subscription subscription;
+    private boolean expunged;
+
+    WeakAction(O owner, BiConsumer<? super O, ? super E> action) {
+        super(owner, QUEUE);
+
+        this.action = action;
+    }
+
+    static int expunge() {
+        int expunged = 0;
+
+        for (Reference<?> reference; (reference = QUEUE.poll()) != null; expunged++) {
+            ((WeakAction<?, ?>) reference).discard();
+        }
+
+        return expunged;
+    }
+
+    // The owner can be collected before the subscription is handed over, in which case the
+    // reference is already expunged and the subscription is dropped straight away.
+    void attach(Subscription subscription) {
+        boolean discard;
+
+        synchronized (this) {
+            this.subscription = subscription;
+            discard = expunged;
+        }
+
+        if (discard) subscription.unsubscribe();
+    }
+
+    private void discard() {
+        Subscription subscription;
+
+        synchronized (this) {
+            subscription = this.subscription;
+            expunged = true;
+        }
+
+        if (subscription != null) subscription.unsubscribe();
+    }
+
+    @Override
+    public void accept(E event) {
+        O owner = get();
+
+        if (owner != null) action.accept(owner, event);
+    }
+}
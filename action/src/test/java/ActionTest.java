@@ -6,11 +6,20 @@
  */
 
 import me.ashydev.binding.action.Action;
+import me.ashydev.binding.action.BiValuedAction;
+import me.ashydev.binding.action.Subscription;
 import me.ashydev.binding.action.ValuedAction;
+import me.ashydev.binding.action.event.ValueChangedEvent;
+import me.ashydev.binding.action.queue.ActionQueue;
+import me.ashydev.binding.action.queue.FailurePolicy;
+import me.ashydev.binding.action.queue.IntValuedActionQueue;
+import me.ashydev.binding.action.queue.ValuedActionQueue;
 import me.ashydev.binding.common.lang.types.Void;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 public class ActionTest {
@@ -36,4 +45,205 @@ public class ActionTest {
 
         assert invoked.get().equals("Hello, World!");
     }
+
+    @Test
+    public void testBiValuedActionInvocation() {
+        final AtomicReference<String> invoked = new AtomicReference<>("none");
+
+        BiValuedAction<String> action = (old, next) -> invoked.set(old + " -> " + next);
+
+        action.accept(new ValueChangedEvent<>("Hello", "World"));
+
+        assert invoked.get().equals("Hello -> World");
+    }
+
+    @Test
+    public void testQueueDispatch() {
+        final AtomicInteger direct = new AtomicInteger();
+        final AtomicReference<ValueChangedEvent<Integer>> first = new AtomicReference<>(), second = new AtomicReference<>();
+
+        ValuedActionQueue<Integer> queue = new ValuedActionQueue<>();
+
+        queue.add((BiValuedAction<Integer>) (old, next) -> direct.addAndGet(next - old));
+        queue.add((ValuedAction<Integer>) first::set);
+        queue.add((ValuedAction<Integer>) second::set);
+
+        queue.execute(1, 5);
+
+        assert direct.get() == 4;
+        assert first.get() == second.get() && first.get().getNew() == 5;
+    }
+
+    @Test
+    public void testSubscriptionRemovesOnlyItsListener() {
+        final AtomicInteger invoked = new AtomicInteger();
+
+        ValuedActionQueue<Integer> queue = new ValuedActionQueue<>();
+        ValuedAction<Integer> action = (event) -> invoked.incrementAndGet();
+
+        Subscription first = queue.subscribe(action);
+        Subscription second = queue.subscribe(action);
+
+        first.unsubscribe();
+        first.unsubscribe();
+
+        queue.execute(0, 1);
+
+        assert !first.isSubscribed() && second.isSubscribed();
+        assert queue.size() == 1;
+        assert invoked.get() == 1;
+    }
+
+    @Test
+    public void testCompactionKeepsSubscriptionsValid() {
+        final AtomicInteger sum = new AtomicInteger();
+
+        IntValuedActionQueue queue = new IntValuedActionQueue();
+        Subscription[] subscriptions = new Subscription[64];
+
+        for (int i = 0; i < subscriptions.length; i++) {
+            final int weight = i;
+
+            subscriptions[i] = queue.subscribe((old, next) -> sum.addAndGet(weight));
+        }
+
+        for (int i = 0; i < subscriptions.length; i += 2) subscriptions[i].unsubscribe();
+        for (int i = 0; i < 64; i++) queue.subscribe((old, next) -> {});
+        for (int i = 1; i < subscriptions.length; i += 4) subscriptions[i].unsubscribe();
+
+        queue.execute(0, 1);
+
+        int expected = 0;
+
+        for (int i = 3; i < subscriptions.length; i += 4) expected += i;
+
+        assert sum.get() == expected;
+        assert queue.size() == 64 + 16;
+    }
+
+    @Test
+    public void testConcurrentRegistrationDuringDispatch() throws InterruptedException {
+        final AtomicInteger invoked = new AtomicInteger();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        IntValuedActionQueue queue = new IntValuedActionQueue();
+        queue.subscribe((old, next) -> invoked.incrementAndGet());
+
+        Thread registrar = new Thread(() -> {
+            try {
+                for (int i = 0; i < 10_000; i++) queue.subscribe((old, next) -> {}).unsubscribe();
+            } catch (Throwable throwable) {
+                failure.set(throwable);
+            }
+        });
+
+        registrar.start();
+
+        for (int i = 0; i < 10_000; i++) queue.execute(i, i + 1);
+
+        registrar.join();
+
+        assert failure.get() == null;
+        assert invoked.get() == 10_000;
+        assert queue.size() == 1;
+    }
+
+    @Test
+    public void testPriorityOrderIsStable() {
+        final StringBuilder order = new StringBuilder();
+
+        ActionQueue<Void> queue = new ActionQueue<>();
+
+        queue.subscribe((event) -> order.append('a'));
+        queue.subscribe((event) -> order.append('b'), 10);
+        Subscription removed = queue.subscribe((event) -> order.append('x'), 10);
+        queue.subscribe((event) -> order.append('c'), -5);
+        queue.subscribe((event) -> order.append('d'), 10);
+        queue.subscribe((event) -> order.append('e'));
+
+        removed.unsubscribe();
+        queue.execute(Void.INSTANCE);
+
+        assert order.toString().equals("bdaec");
+    }
+
+    @Test
+    public void testFailingListenerPropagatesByDefault() {
+        final AtomicInteger calls = new AtomicInteger();
+
+        ActionQueue<Void> queue = new ActionQueue<>();
+
+        queue.subscribe((event) -> {
+            throw new IllegalStateException("failure");
+        });
+        queue.subscribe((event) -> calls.incrementAndGet());
+
+        try {
+            queue.execute(Void.INSTANCE);
+
+            assert false;
+        } catch (IllegalStateException ignored) {
+        }
+
+        assert calls.get() == 0;
+    }
+
+    @Test
+    public void testLogAndContinueResumesAfterFailure() {
+        final StringBuilder order = new StringBuilder();
+
+        ValuedActionQueue<Integer> queue = new ValuedActionQueue<>();
+        queue.setFailurePolicy(FailurePolicy.LOG_AND_CONTINUE);
+
+        queue.subscribe((event) -> order.append('a'));
+        Subscription failing = queue.subscribe((event) -> {
+            throw new IllegalStateException("failure");
+        });
+        queue.subscribe((BiValuedAction<Integer>) (old, next) -> order.append('c'));
+
+        queue.execute(0, 1);
+        queue.execute(1, 2);
+
+        assert order.toString().equals("acac");
+        assert queue.failures(failing) == 2;
+        assert failing.isSubscribed();
+    }
+
+    @Test
+    public void testUnsubscribeAfterFailures() {
+        final AtomicInteger calls = new AtomicInteger();
+
+        IntValuedActionQueue queue = new IntValuedActionQueue();
+        queue.setFailurePolicy(FailurePolicy.unsubscribeAfter(2));
+
+        Subscription failing = queue.subscribe((old, next) -> {
+            calls.incrementAndGet();
+
+            throw new IllegalStateException("failure");
+        });
+
+        for (int i = 0; i < 4; i++) queue.execute(i, i + 1);
+
+        assert calls.get() == 2;
+        assert !failing.isSubscribed();
+        assert queue.failures(failing) == 2;
+    }
+
+    @Test
+    public void testQueueFromCollection() {
+        final StringBuilder order = new StringBuilder();
+
+        Action<ValueChangedEvent<Integer>> first = event -> order.append('a'), second = event -> order.append('b');
+        ValuedActionQueue<Integer> queue = new ValuedActionQueue<>(List.of(first, second));
+
+        queue.execute(0, 1);
+
+        assert queue.size() == 2;
+        assert order.toString().equals("ab");
+
+        queue.remove(first);
+        queue.execute(1, 2);
+
+        assert order.toString().equals("abb");
+    }
 }
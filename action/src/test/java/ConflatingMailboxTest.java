@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+import me.ashydev.binding.action.ConflatingMailbox;
+import me.ashydev.binding.action.event.ValueChangedEvent;
+import me.ashydev.binding.action.queue.ValuedActionQueue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ConflatingMailboxTest {
+    private ArrayDeque<Runnable> tasks;
+    private List<ValueChangedEvent<Integer>> received;
+
+    @BeforeEach
+    public void setUp() {
+        tasks = new ArrayDeque<>();
+        received = new ArrayList<>();
+    }
+
+    @Test
+    public void testConflatesToFirstOldAndLatestNew() {
+        ValuedActionQueue<Integer> queue = new ValuedActionQueue<>();
+        queue.subscribe(new ConflatingMailbox<>(received::add, tasks::add));
+
+        for (int i = 0; i < 100; i++) queue.execute(i, i + 1);
+
+        assert tasks.size() == 1;
+
+        tasks.poll().run();
+
+        assert received.size() == 1;
+        assert received.get(0).getOld() == 0 && received.get(0).getNew() == 100;
+    }
+
+    @Test
+    public void testWakesAgainAfterDrain() {
+        ConflatingMailbox<Integer> mailbox = new ConflatingMailbox<>(received::add, tasks::add);
+
+        mailbox.accept(0, 1);
+        tasks.poll().run();
+
+        mailbox.accept(1, 2);
+        mailbox.accept(2, 3);
+
+        assert tasks.size() == 1;
+
+        tasks.poll().run();
+
+        assert received.size() == 2;
+        assert received.get(1).getOld() == 1 && received.get(1).getNew() == 3;
+    }
+
+    @Test
+    public void testPoll() {
+        ConflatingMailbox<String> mailbox = new ConflatingMailbox<>();
+
+        assert mailbox.poll() == null;
+
+        mailbox.accept("a", "b");
+        mailbox.accept("b", "c");
+
+        ValueChangedEvent<String> event = mailbox.poll();
+
+        assert event.getOld().equals("a") && event.getNew().equals("c");
+        assert mailbox.isEmpty();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+import me.ashydev.binding.action.Subscription;
+import me.ashydev.binding.action.event.EventBatch;
+import me.ashydev.binding.action.queue.ValuedActionQueue;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class EventBatchTest {
+    @Test
+    public void testBatchGrowsAndClears() {
+        EventBatch<String> batch = new EventBatch<>(1);
+
+        batch.append("a", "b");
+        batch.append("b", "c");
+
+        assert batch.size() == 2;
+        assert batch.getOld(1).equals("b") && batch.getNew(1).equals("c");
+
+        batch.clear();
+
+        assert batch.isEmpty();
+    }
+
+    @Test
+    public void testFullBatchesAndDelayedRemainder() throws InterruptedException {
+        ValuedActionQueue<Integer> queue = new ValuedActionQueue<>();
+        List<Integer> sizes = new CopyOnWriteArrayList<>();
+        List<Integer> values = new CopyOnWriteArrayList<>();
+        CountDownLatch remainder = new CountDownLatch(1);
+
+        queue.batch(100, Duration.ofMillis(200), (batch) -> {
+            sizes.add(batch.size());
+            batch.forEach((old, next) -> values.add(next));
+
+            if (batch.size() < 100) remainder.countDown();
+        });
+
+        for (int i = 0; i < 250; i++) queue.execute(i, i + 1);
+
+        assert sizes.equals(List.of(100, 100));
+        assert remainder.await(5, TimeUnit.SECONDS);
+        assert sizes.equals(List.of(100, 100, 50));
+
+        for (int i = 0; i < 250; i++) assert values.get(i) == i + 1;
+    }
+
+    @Test
+    public void testUnsubscribeDropsPendingBatch() throws InterruptedException {
+        ValuedActionQueue<Integer> queue = new ValuedActionQueue<>();
+        List<Integer> sizes = new CopyOnWriteArrayList<>();
+
+        Subscription subscription = queue.batch(100, Duration.ofMillis(20), (batch) -> sizes.add(batch.size()));
+
+        for (int i = 0; i < 10; i++) queue.execute(i, i + 1);
+
+        subscription.unsubscribe();
+
+        Thread.sleep(100);
+
+        assert sizes.isEmpty();
+    }
+
+    @Test
+    public void testReentrantBatchIsDeliveredAfterCurrent() {
+        ValuedActionQueue<Integer> queue = new ValuedActionQueue<>();
+        List<Integer> values = new CopyOnWriteArrayList<>();
+        AtomicBoolean fed = new AtomicBoolean();
+
+        queue.batch(2, Duration.ofSeconds(10), (batch) -> {
+            if (fed.compareAndSet(false, true)) {
+                queue.execute(2, 3);
+                queue.execute(3, 4);
+            }
+
+            batch.forEach((old, next) -> values.add(next));
+        });
+
+        queue.execute(0, 1);
+        queue.execute(1, 2);
+
+        assert values.equals(List.of(1, 2, 3, 4)) : values;
+    }
+
+    @Test
+    public void testBatchesNeverExceedLimitUnderSlowDelivery() throws InterruptedException {
+        ValuedActionQueue<Integer> queue = new ValuedActionQueue<>();
+        AtomicInteger largest = new AtomicInteger(), total = new AtomicInteger();
+        Thread[] producers = new Thread[4];
+
+        queue.batch(10, Duration.ofMillis(20), (batch) -> {
+            largest.accumulateAndGet(batch.size(), Math::max);
+            total.addAndGet(batch.size());
+
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        for (int i = 0; i < producers.length; i++) {
+            producers[i] = new Thread(() -> {
+                for (int j = 0; j < 500; j++) queue.execute(j, j + 1);
+            });
+            producers[i].start();
+        }
+
+        for (Thread producer : producers) producer.join();
+
+        Thread.sleep(200);
+
+        assert largest.get() <= 10 : largest.get();
+        assert total.get() == 2000 : total.get();
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+import me.ashydev.binding.action.Subscription;
+import me.ashydev.binding.action.ValuedAction;
+import me.ashydev.binding.action.event.ValueChangedEvent;
+import me.ashydev.binding.action.execution.TimerWheel;
+import me.ashydev.binding.action.queue.ValuedActionQueue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class RateLimitTest {
+    private static final Duration WINDOW = Duration.ofMillis(50);
+
+    private ValuedActionQueue<Integer> queue;
+    private List<ValueChangedEvent<Integer>> received;
+
+    @BeforeEach
+    public void setUp() {
+        queue = new ValuedActionQueue<>();
+        received = new CopyOnWriteArrayList<>();
+    }
+
+    private ValuedAction<Integer> receiver(CountDownLatch latch) {
+        return (event) -> {
+            received.add(event);
+            latch.countDown();
+        };
+    }
+
+    @Test
+    public void testDebounceEmitsOnceAfterQuietWindow() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        queue.debounce(WINDOW, receiver(latch));
+
+        for (int i = 0; i < 100; i++) queue.execute(i, i + 1);
+
+        assert received.isEmpty();
+        assert latch.await(5, TimeUnit.SECONDS);
+
+        Thread.sleep(WINDOW.toMillis() * 2);
+
+        assert received.size() == 1;
+        assert received.get(0).getOld() == 0 && received.get(0).getNew() == 100;
+    }
+
+    @Test
+    public void testThrottleEmitsLeadingAndTrailing() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(2);
+
+        queue.throttle(WINDOW, receiver(latch));
+
+        for (int i = 0; i < 100; i++) queue.execute(i, i + 1);
+
+        assert received.size() == 1 && received.get(0).getNew() == 1;
+        assert latch.await(5, TimeUnit.SECONDS);
+
+        assert received.get(1).getOld() == 1 && received.get(1).getNew() == 100;
+    }
+
+    @Test
+    public void testSampleEmitsLatest() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        queue.sample(WINDOW, receiver(latch));
+
+        for (int i = 0; i < 100; i++) queue.execute(i, i + 1);
+
+        assert latch.await(5, TimeUnit.SECONDS);
+        assert received.get(0).getNew() == 100;
+    }
+
+    @Test
+    public void testTimerWheelCancel() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+
+        TimerWheel.Timeout cancelled = TimerWheel.shared().schedule(() -> received.add(null), WINDOW);
+        TimerWheel.shared().schedule(fired::countDown, WINDOW.multipliedBy(2));
+
+        cancelled.cancel();
+
+        assert fired.await(5, TimeUnit.SECONDS);
+        assert received.isEmpty();
+    }
+
+    @Test
+    public void testCancelledTimeoutsLeaveTheWheel() throws InterruptedException {
+        TimerWheel wheel = new TimerWheel(Duration.ofMillis(1), 8);
+        List<TimerWheel.Timeout> timeouts = new CopyOnWriteArrayList<>();
+
+        for (int i = 0; i < 1000; i++) timeouts.add(wheel.schedule(() -> received.add(null), Duration.ofHours(1)));
+
+        for (int i = 0; i < 500 && wheel.size() < 1000; i++) Thread.sleep(10);
+
+        assert wheel.size() == 1000;
+
+        timeouts.forEach(TimerWheel.Timeout::cancel);
+
+        for (int i = 0; i < 500 && wheel.size() > 0; i++) Thread.sleep(10);
+
+        assert wheel.size() == 0 : wheel.size();
+        assert received.isEmpty();
+    }
+
+    @Test
+    public void testUnsubscribeCancelsPendingDebounce() throws InterruptedException {
+        Subscription subscription = queue.debounce(WINDOW, receiver(new CountDownLatch(1)));
+
+        queue.execute(0, 1);
+        subscription.unsubscribe();
+
+        Thread.sleep(WINDOW.toMillis() * 3);
+
+        assert received.isEmpty();
+    }
+}
@@ -7,6 +7,8 @@
 
 package me.ashydev.binding.bindables.precision;
 
+import me.ashydev.binding.action.BiValuedAction;
+import me.ashydev.binding.action.Subscription;
 import me.ashydev.binding.action.ValuedAction;
 import me.ashydev.binding.action.queue.ValuedActionQueue;
 
@@ -23,15 +25,31 @@ public interface IPrecision<T extends Number> {
 
     void setDefaultPrecision(T precision);
 
-    void onPrecisionChanged(ValuedAction<T> action, boolean runOnceImmediately);
+    Subscription onPrecisionChanged(ValuedAction<T> action, boolean runOnceImmediately);
 
-    default void onPrecisionChanged(ValuedAction<T> action) {
-        onPrecisionChanged(action, false);
+    default Subscription onPrecisionChanged(ValuedAction<T> action) {
+        return onPrecisionChanged(action, false);
     }
 
-    void onDefaultPrecisionChanged(ValuedAction<T> action, boolean runOnceImmediately);
+    default Subscription onPrecisionChanged(BiValuedAction<T> action, boolean runOnceImmediately) {
+        return onPrecisionChanged((ValuedAction<T>) action, runOnceImmediately);
+    }
+
+    default Subscription onPrecisionChanged(BiValuedAction<T> action) {
+        return onPrecisionChanged(action, false);
+    }
+
+    Subscription onDefaultPrecisionChanged(ValuedAction<T> action, boolean runOnceImmediately);
+
+    default Subscription onDefaultPrecisionChanged(ValuedAction<T> action) {
+        return onDefaultPrecisionChanged(action, false);
+    }
+
+    default Subscription onDefaultPrecisionChanged(BiValuedAction<T> action, boolean runOnceImmediately) {
+        return onDefaultPrecisionChanged((ValuedAction<T>) action, runOnceImmediately);
+    }
 
-    default void onDefaultPrecisionChanged(ValuedAction<T> action) {
-        onDefaultPrecisionChanged(action, false);
+    default Subscription onDefaultPrecisionChanged(BiValuedAction<T> action) {
+        return onDefaultPrecisionChanged(action, false);
     }
 }
@@ -7,11 +7,11 @@
 
 package me.ashydev.binding.bindables.precision;
 
-import me.ashydev.binding.action.Action;
+import me.ashydev.binding.action.Subscription;
 import me.ashydev.binding.action.ValuedAction;
-import me.ashydev.binding.action.event.ValueChangedEvent;
 import me.ashydev.binding.action.queue.ValuedActionQueue;
 import me.ashydev.binding.bindable.Bindable;
+import me.ashydev.binding.bindable.Propagation;
 import me.ashydev.binding.bindable.StrongBindable;
 import me.ashydev.binding.bindables.ranged.RangeConstrainedBindable;
 import me.ashydev.binding.bindables.ranged.RangedBindable;
@@ -21,11 +21,26 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
 
 public abstract class PrecisionConstrainedBindable<V extends Number, T extends Number> extends StrongBindable<V> implements IPrecision<T> {
     private static final List<Class<?>> VALID_PRECISION_TYPES = List.of(Float.class, Double.class);
-    private transient final ValuedActionQueue<T> precisionChanged = new ValuedActionQueue<>();
-    private transient final ValuedActionQueue<T> defaultPrecisionChanged = new ValuedActionQueue<>();
+    // Each forwarder stops on an unchanged precision, so a cycle of bindings settles after one pass.
+    private static final BiConsumer<Bindable<?>, Bindable<?>> PRECISION = (target, origin) -> {
+        if (target instanceof PrecisionConstrainedBindable<?, ?> && !Objects.equals(constrained(target).precision, constrained(origin).precision))
+            constrained(target).setPrecision(constrained(origin).precision, false, constrained(origin));
+    };
+    private static final BiConsumer<Bindable<?>, Bindable<?>> PRECISION_UPDATING = (target, origin) -> {
+        if (target instanceof PrecisionConstrainedBindable<?, ?> && !Objects.equals(constrained(target).precision, constrained(origin).precision))
+            constrained(target).setPrecision(constrained(origin).precision, true, constrained(origin));
+    };
+    private static final BiConsumer<Bindable<?>, Bindable<?>> DEFAULT_PRECISION = (target, origin) -> {
+        if (target instanceof PrecisionConstrainedBindable<?, ?> && !Objects.equals(constrained(target).defaultPrecision, constrained(origin).defaultPrecision))
+            constrained(target).setDefaultPrecision(constrained(origin).defaultPrecision, constrained(origin));
+    };
+    private transient volatile ValuedActionQueue<T> precisionChanged;
+    private transient volatile ValuedActionQueue<T> defaultPrecisionChanged;
     private T precision, defaultPrecision;
     public PrecisionConstrainedBindable(V value, T defaultPrecision) {
         super(value);
@@ -43,12 +58,9 @@ public abstract class PrecisionConstrainedBindable<V extends Number, T extends N
         this(null, precision);
     }
 
-    protected void propagatePrecision(Action<PrecisionConstrainedBindable<V, T>> propagation, PrecisionConstrainedBindable<V, T> source) {
-        super.propagate(
-                (binding) -> binding instanceof PrecisionConstrainedBindable<?,?>,
-                (binding) -> propagation.accept((PrecisionConstrainedBindable<V, T>) binding),
-                source
-        );
+    @SuppressWarnings("unchecked")
+    private static PrecisionConstrainedBindable<Number, Number> constrained(Bindable<?> bindable) {
+        return (PrecisionConstrainedBindable<Number, Number>) bindable;
     }
 
     private static <T extends Number> boolean isValidForPrecision(T precision) {
@@ -76,14 +88,11 @@ public abstract class PrecisionConstrainedBindable<V extends Number, T extends N
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public void setPrecision(T precision) {
         if (precision.equals(this.precision)) return;
         if (!(precision instanceof Comparable<?>)) return;
 
-        Comparable<Number> comparable = (Comparable<Number>) precision;
-
-        if (comparable.compareTo(0) <= 0)
+        if (precision.doubleValue() <= 0)
             throw new IllegalArgumentException(String.format("Precision must be greater than 0., but was %s.", precision));
 
         setPrecision(precision, true, this);
@@ -95,14 +104,11 @@ public abstract class PrecisionConstrainedBindable<V extends Number, T extends N
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public void setDefaultPrecision(T defaultPrecision) {
         if (defaultPrecision.equals(this.defaultPrecision)) return;
         if (!(defaultPrecision instanceof Comparable<?>)) return;
 
-        Comparable<Number> comparable = (Comparable<Number>) defaultPrecision;
-
-        if (comparable.compareTo(0) <= 0)
+        if (defaultPrecision.doubleValue() <= 0)
             throw new IllegalArgumentException(String.format("Default precision must be greater than 0., but was %s.", defaultPrecision));
 
         setDefaultPrecision(defaultPrecision, this);
@@ -113,10 +119,17 @@ public abstract class PrecisionConstrainedBindable<V extends Number, T extends N
         super.set(precisionFor(precision, value));
     }
 
+    @Override
+    public boolean compareAndSet(V expected, V next) {
+        return super.compareAndSet(expected, precisionFor(precision, next));
+    }
+
     protected void setPrecision(T precision, boolean updateCurrentValue, PrecisionConstrainedBindable<V, T> source) {
         T previous = this.precision;
         this.precision = precision;
 
+        if (!Objects.equals(previous, precision)) incrementVersion();
+
         triggerPrecisionChanged(previous, precision, updateCurrentValue, source);
 
         if (updateCurrentValue) {
@@ -142,7 +155,7 @@ public abstract class PrecisionConstrainedBindable<V extends Number, T extends N
             PrecisionConstrainedBindable<V, T> source
     ) {
         if (propagateToBindings || bypassChecks) {
-            propagatePrecision((binding) -> binding.setPrecision(current, updateCurrentValue, source), source);
+            forward(updateCurrentValue ? PRECISION_UPDATING : PRECISION, source);
         }
     }
 
@@ -150,6 +163,8 @@ public abstract class PrecisionConstrainedBindable<V extends Number, T extends N
         T previous = this.defaultPrecision;
         this.defaultPrecision = defaultPrecision;
 
+        if (!Objects.equals(previous, defaultPrecision)) incrementVersion();
+
         triggerDefaultPrecisionChanged(previous, defaultPrecision, source(source, this));
     }
 
@@ -162,11 +177,13 @@ public abstract class PrecisionConstrainedBindable<V extends Number, T extends N
     }
     protected void triggerDefaultPrecisionChanged(T previous, T current, boolean bypassChecks, boolean propagateToBindings, PrecisionConstrainedBindable<V, T> source) {
         if (propagateToBindings || bypassChecks) {
-            propagatePrecision((binding) -> binding.setDefaultPrecision(current, source), source);
+            forward(DEFAULT_PRECISION, source);
         }
 
-        if (!previous.equals(current) || bypassChecks) {
-            defaultPrecisionChanged.execute(new ValueChangedEvent<>(previous, current));
+        ValuedActionQueue<T> defaultPrecisionChanged = this.defaultPrecisionChanged;
+
+        if (defaultPrecisionChanged != null && (!previous.equals(current) || bypassChecks)) {
+            Propagation.execute(defaultPrecisionChanged, previous, current);
         }
     }
 
@@ -174,34 +191,42 @@ public abstract class PrecisionConstrainedBindable<V extends Number, T extends N
     public void unbindEvents() {
         super.unbindEvents();
 
-        precisionChanged.clear();
+        if (precisionChanged != null) precisionChanged.clear();
     }
 
     @Override
-    public void onPrecisionChanged(ValuedAction<T> action, boolean runOnceImmediately) {
-        precisionChanged.add(action);
+    public Subscription onPrecisionChanged(ValuedAction<T> action, boolean runOnceImmediately) {
+        Subscription subscription = getPrecisionChanged().subscribe(action);
 
         if (runOnceImmediately) {
-            action.accept(new ValueChangedEvent<>(precision, precision));
+            action.accept(precision, precision);
         }
+
+        return subscription;
     }
 
     @Override
-    public void onDefaultPrecisionChanged(ValuedAction<T> action, boolean runOnceImmediately) {
-        defaultPrecisionChanged.add(action);
+    public Subscription onDefaultPrecisionChanged(ValuedAction<T> action, boolean runOnceImmediately) {
+        Subscription subscription = getDefaultPrecisionChanged().subscribe(action);
 
         if (runOnceImmediately) {
-            action.accept(new ValueChangedEvent<>(defaultPrecision, defaultPrecision));
+            action.accept(defaultPrecision, defaultPrecision);
         }
+
+        return subscription;
     }
 
     @Override
-    public ValuedActionQueue<T> getPrecisionChanged() {
+    public synchronized ValuedActionQueue<T> getPrecisionChanged() {
+        if (precisionChanged == null) precisionChanged = new ValuedActionQueue<>();
+
         return precisionChanged;
     }
 
     @Override
-    public ValuedActionQueue<T> getDefaultPrecisionChanged() {
+    public synchronized ValuedActionQueue<T> getDefaultPrecisionChanged() {
+        if (defaultPrecisionChanged == null) defaultPrecisionChanged = new ValuedActionQueue<>();
+
         return defaultPrecisionChanged;
     }
 }
@@ -7,6 +7,8 @@
 
 package me.ashydev.binding.bindables.ranged;
 
+import me.ashydev.binding.action.BiValuedAction;
+import me.ashydev.binding.action.Subscription;
 import me.ashydev.binding.action.ValuedAction;
 import me.ashydev.binding.action.queue.ValuedActionQueue;
 
@@ -40,27 +42,59 @@ public interface IMinMax<T extends Number> {
 
     boolean hasDefinedRange();
 
-    void onMinChanged(ValuedAction<T> action, boolean runOnceImmediately);
+    Subscription onMinChanged(ValuedAction<T> action, boolean runOnceImmediately);
 
-    default void onMinChanged(ValuedAction<T> action) {
-        onMinChanged(action, false);
+    default Subscription onMinChanged(ValuedAction<T> action) {
+        return onMinChanged(action, false);
     }
 
-    void onMaxChanged(ValuedAction<T> action, boolean runOnceImmediately);
+    default Subscription onMinChanged(BiValuedAction<T> action, boolean runOnceImmediately) {
+        return onMinChanged((ValuedAction<T>) action, runOnceImmediately);
+    }
+
+    default Subscription onMinChanged(BiValuedAction<T> action) {
+        return onMinChanged(action, false);
+    }
+
+    Subscription onMaxChanged(ValuedAction<T> action, boolean runOnceImmediately);
+
+    default Subscription onMaxChanged(ValuedAction<T> action) {
+        return onMaxChanged(action, false);
+    }
+
+    default Subscription onMaxChanged(BiValuedAction<T> action, boolean runOnceImmediately) {
+        return onMaxChanged((ValuedAction<T>) action, runOnceImmediately);
+    }
 
-    default void onMaxChanged(ValuedAction<T> action) {
-        onMaxChanged(action, false);
+    default Subscription onMaxChanged(BiValuedAction<T> action) {
+        return onMaxChanged(action, false);
     }
 
-    void onDefaultMinChanged(ValuedAction<T> action, boolean runOnceImmediately);
+    Subscription onDefaultMinChanged(ValuedAction<T> action, boolean runOnceImmediately);
 
-    default void onDefaultMinChanged(ValuedAction<T> action) {
-        onDefaultMinChanged(action, false);
+    default Subscription onDefaultMinChanged(ValuedAction<T> action) {
+        return onDefaultMinChanged(action, false);
     }
 
-    void onDefaultMaxChanged(ValuedAction<T> action, boolean runOnceImmediately);
+    default Subscription onDefaultMinChanged(BiValuedAction<T> action, boolean runOnceImmediately) {
+        return onDefaultMinChanged((ValuedAction<T>) action, runOnceImmediately);
+    }
+
+    default Subscription onDefaultMinChanged(BiValuedAction<T> action) {
+        return onDefaultMinChanged(action, false);
+    }
+
+    Subscription onDefaultMaxChanged(ValuedAction<T> action, boolean runOnceImmediately);
+
+    default Subscription onDefaultMaxChanged(ValuedAction<T> action) {
+        return onDefaultMaxChanged(action, false);
+    }
+
+    default Subscription onDefaultMaxChanged(BiValuedAction<T> action, boolean runOnceImmediately) {
+        return onDefaultMaxChanged((ValuedAction<T>) action, runOnceImmediately);
+    }
 
-    default void onDefaultMaxChanged(ValuedAction<T> action) {
-        onDefaultMaxChanged(action, false);
+    default Subscription onDefaultMaxChanged(BiValuedAction<T> action) {
+        return onDefaultMaxChanged(action, false);
     }
 }
@@ -8,26 +8,44 @@
 package me.ashydev.binding.bindables.ranged;
 
 import me.ashydev.binding.IBindable;
-import me.ashydev.binding.action.Action;
+import me.ashydev.binding.action.Subscription;
 import me.ashydev.binding.action.ValuedAction;
-import me.ashydev.binding.action.event.ValueChangedEvent;
 import me.ashydev.binding.action.queue.ValuedActionQueue;
 import me.ashydev.binding.bindable.Bindable;
+import me.ashydev.binding.bindable.Propagation;
 import me.ashydev.binding.bindable.StrongBindable;
+import me.ashydev.binding.types.EqualityStrategy;
 
-import java.lang.ref.WeakReference;
-import java.util.ArrayList;
-
+import java.util.Objects;
+import java.util.function.BiConsumer;
 
 public abstract class RangeConstrainedBindable<T extends Number> extends StrongBindable<T> implements IMinMax<T> {
-    private transient final ValuedActionQueue<T> minValueChanged = new ValuedActionQueue<>();
-    private transient final ValuedActionQueue<T> maxValueChanged = new ValuedActionQueue<>();
-    private transient final ValuedActionQueue<T> defaultMinValueChanged = new ValuedActionQueue<>();
-    private transient final ValuedActionQueue<T> defaultMaxValueChanged = new ValuedActionQueue<>();
+    // Each forwarder stops on an unchanged value, so a cycle of bindings settles after one pass.
+    private static final BiConsumer<Bindable<?>, Bindable<?>> MIN = (target, origin) -> {
+        if (target instanceof RangedBindable<?> && !Objects.equals(ranged(target).min, ranged(origin).min))
+            ranged(target).setMinValue(ranged(origin).min, true, ranged(origin));
+    };
+    private static final BiConsumer<Bindable<?>, Bindable<?>> MAX = (target, origin) -> {
+        if (target instanceof RangedBindable<?> && !Objects.equals(ranged(target).max, ranged(origin).max))
+            ranged(target).setMaxValue(ranged(origin).max, true, ranged(origin));
+    };
+    private static final BiConsumer<Bindable<?>, Bindable<?>> DEFAULT_MIN = (target, origin) -> {
+        if (target instanceof RangeConstrainedBindable<?> && !Objects.equals(ranged(target).defaultMin, ranged(origin).defaultMin))
+            ranged(target).setDefaultMin(ranged(origin).defaultMin);
+    };
+    private static final BiConsumer<Bindable<?>, Bindable<?>> DEFAULT_MAX = (target, origin) -> {
+        if (target instanceof RangeConstrainedBindable<?> && !Objects.equals(ranged(target).defaultMax, ranged(origin).defaultMax))
+            ranged(target).setDefaultMax(ranged(origin).defaultMax);
+    };
+
+    private transient volatile ValuedActionQueue<T> minValueChanged;
+    private transient volatile ValuedActionQueue<T> maxValueChanged;
+    private transient volatile ValuedActionQueue<T> defaultMinValueChanged;
+    private transient volatile ValuedActionQueue<T> defaultMaxValueChanged;
     private T min, max;
     private T defaultMin, defaultMax;
     public RangeConstrainedBindable(T value, T min, T max) {
-        super(value);
+        super(value, EqualityStrategy.equality());
 
         this.min = min;
         this.max = max;
@@ -40,12 +58,9 @@ public abstract class RangeConstrainedBindable<T extends Number> extends StrongB
         this(min, min, max);
     }
 
-    protected void propagateRanged(Action<RangeConstrainedBindable<T>> propagation, RangeConstrainedBindable<T> source) {
-        super.propagate(
-                (binding) -> binding instanceof RangedBindable,
-                (binding) -> propagation.accept((RangedBindable<T>) binding),
-                source
-        );
+    @SuppressWarnings("unchecked")
+    private static RangeConstrainedBindable<Number> ranged(Bindable<?> bindable) {
+        return (RangeConstrainedBindable<Number>) bindable;
     }
 
     @SuppressWarnings("unchecked")
@@ -71,11 +86,21 @@ public abstract class RangeConstrainedBindable<T extends Number> extends StrongB
     public void set(T value) {
         T clamped = clampValue(value);
 
-        if (clamped.equals(this.value)) return;
+        if (isEqual(clamped, this.value)) return;
 
         super.set(clamped);
     }
 
+    @Override
+    public boolean compareAndSet(T expected, T next) {
+        return super.compareAndSet(expected, clampValue(next));
+    }
+
+    @Override
+    protected boolean accepts(Bindable<T> source) {
+        return isValueInRange(source.get());
+    }
+
     @Override
     public T getMin() {
         return min;
@@ -96,6 +121,8 @@ public abstract class RangeConstrainedBindable<T extends Number> extends StrongB
         T previous = min;
         this.min = minValue;
 
+        if (!Objects.equals(previous, minValue)) incrementVersion();
+
         triggerMinValueChange(previous, minValue, source(source, this));
 
         if (updateCurrentValue) {
@@ -133,14 +160,13 @@ public abstract class RangeConstrainedBindable<T extends Number> extends StrongB
             RangeConstrainedBindable<T> source
     ) {
         if (propagateToBindings || bypassChecks) {
-            propagateRanged(
-                    (binding) -> binding.setMinValue(value, true, source),
-                    source
-            );
+            forward(MIN, source);
         }
 
-        if (!beforePropagation.equals(min) || bypassChecks)
-            minValueChanged.execute(new ValueChangedEvent<>(beforePropagation, min));
+        ValuedActionQueue<T> minValueChanged = this.minValueChanged;
+
+        if (minValueChanged != null && (!beforePropagation.equals(min) || bypassChecks))
+            Propagation.execute(minValueChanged, beforePropagation, min);
     }
 
     @Override
@@ -163,6 +189,8 @@ public abstract class RangeConstrainedBindable<T extends Number> extends StrongB
         T previous = max;
         this.max = maxValue;
 
+        if (!Objects.equals(previous, maxValue)) incrementVersion();
+
         triggerMaxValueChange(previous, maxValue, source(source, this));
 
         if (updateCurrentValue) {
@@ -192,32 +220,18 @@ public abstract class RangeConstrainedBindable<T extends Number> extends StrongB
             RangeConstrainedBindable<T> source
     ) {
         if (propagateToBindings || bypassChecks) {
-            propagateRanged(
-                    (binding) -> binding.setMaxValue(value, true, source),
-                    source
-            );
+            forward(MAX, source);
         }
 
-        if (!beforePropagation.equals(value) || bypassChecks) {
-            maxValueChanged.execute(new ValueChangedEvent<>(beforePropagation, max));
+        ValuedActionQueue<T> maxValueChanged = this.maxValueChanged;
+
+        if (maxValueChanged != null && (!beforePropagation.equals(value) || bypassChecks)) {
+            Propagation.execute(maxValueChanged, beforePropagation, max);
         }
     }
 
     protected void propagateMaxValueChange(RangeConstrainedBindable<T> source) {
-        for (WeakReference<Bindable<T>> binding : new ArrayList<>(bindings)) {
-            if (binding.refersTo(source)) continue;
-
-            Bindable<T> bindable = binding.get();
-
-            if (bindable == null) {
-                bindings.remove(binding);
-                continue;
-            }
-
-            if (bindable instanceof RangeConstrainedBindable<T> rangeConstrainedBindable) {
-                rangeConstrainedBindable.setMaxValue(max, true, this);
-            }
-        }
+        forward(MAX, source);
     }
 
     @Override
@@ -272,54 +286,38 @@ public abstract class RangeConstrainedBindable<T extends Number> extends StrongB
         T previous = defaultMin;
         this.defaultMin = min;
 
+        if (!Objects.equals(previous, min)) incrementVersion();
+
         if (propagateToBindings)
             propagateDefaultMinValueChange(source);
 
-        defaultMinValueChanged.execute(new ValueChangedEvent<>(previous, min));
+        ValuedActionQueue<T> defaultMinValueChanged = this.defaultMinValueChanged;
+
+        if (defaultMinValueChanged != null)
+            Propagation.execute(defaultMinValueChanged, previous, min);
     }
 
     protected void propagateDefaultMinValueChange(RangeConstrainedBindable<T> source) {
-        for (WeakReference<Bindable<T>> binding : new ArrayList<>(bindings)) {
-            if (binding.refersTo(source)) continue;
-
-            Bindable<T> bindable = binding.get();
-
-            if (bindable == null) {
-                bindings.remove(binding);
-                continue;
-            }
-
-            if (bindable instanceof RangeConstrainedBindable<T> rangeConstrainedBindable) {
-                rangeConstrainedBindable.setDefaultMin(defaultMin);
-            }
-        }
+        forward(DEFAULT_MIN, source);
     }
 
     protected void triggerDefaultMaxValueChange(RangeConstrainedBindable<T> source, boolean propagateToBindings, T max) {
         T previous = defaultMax;
         this.defaultMax = max;
 
+        if (!Objects.equals(previous, max)) incrementVersion();
+
         if (propagateToBindings)
             propagateDefaultMaxValueChange(source);
 
-        defaultMaxValueChanged.execute(new ValueChangedEvent<>(previous, max));
+        ValuedActionQueue<T> defaultMaxValueChanged = this.defaultMaxValueChanged;
+
+        if (defaultMaxValueChanged != null)
+            Propagation.execute(defaultMaxValueChanged, previous, max);
     }
 
     protected void propagateDefaultMaxValueChange(RangeConstrainedBindable<T> source) {
-        for (WeakReference<Bindable<T>> binding : new ArrayList<>(bindings)) {
-            if (binding.refersTo(source)) continue;
-
-            Bindable<T> bindable = binding.get();
-
-            if (bindable == null) {
-                bindings.remove(binding);
-                continue;
-            }
-
-            if (bindable instanceof RangeConstrainedBindable<T> rangeConstrainedBindable) {
-                rangeConstrainedBindable.setDefaultMax(defaultMax);
-            }
-        }
+        forward(DEFAULT_MAX, source);
     }
 
     @Override
@@ -349,50 +347,58 @@ public abstract class RangeConstrainedBindable<T extends Number> extends StrongB
     }
 
     @Override
-    public void onMinChanged(ValuedAction<T> action, boolean runOnceImmediately) {
-        minValueChanged.add(action);
+    public Subscription onMinChanged(ValuedAction<T> action, boolean runOnceImmediately) {
+        Subscription subscription = getOnMinChanged().subscribe(action);
 
         if (runOnceImmediately) {
-            action.accept(new ValueChangedEvent<>(min, min));
+            action.accept(min, min);
         }
+
+        return subscription;
     }
 
     @Override
-    public void onMaxChanged(ValuedAction<T> action, boolean runOnceImmediately) {
-        maxValueChanged.add(action);
+    public Subscription onMaxChanged(ValuedAction<T> action, boolean runOnceImmediately) {
+        Subscription subscription = getOnMaxChanged().subscribe(action);
 
         if (runOnceImmediately) {
-            action.accept(new ValueChangedEvent<>(max, max));
+            action.accept(max, max);
         }
+
+        return subscription;
     }
 
     @Override
-    public void onDefaultMinChanged(ValuedAction<T> action, boolean runOnceImmediately) {
-        defaultMinValueChanged.add(action);
+    public Subscription onDefaultMinChanged(ValuedAction<T> action, boolean runOnceImmediately) {
+        Subscription subscription = getOnDefaultMinChanged().subscribe(action);
 
         if (runOnceImmediately) {
-            action.accept(new ValueChangedEvent<>(defaultMin, defaultMin));
+            action.accept(defaultMin, defaultMin);
         }
+
+        return subscription;
     }
 
     @Override
-    public void onDefaultMaxChanged(ValuedAction<T> action, boolean runOnceImmediately) {
-        defaultMaxValueChanged.add(action);
+    public Subscription onDefaultMaxChanged(ValuedAction<T> action, boolean runOnceImmediately) {
+        Subscription subscription = getOnDefaultMaxChanged().subscribe(action);
 
         if (runOnceImmediately) {
-            action.accept(new ValueChangedEvent<>(defaultMax, defaultMax));
+            action.accept(defaultMax, defaultMax);
         }
+
+        return subscription;
     }
 
     @Override
     public void unbindEvents() {
         super.unbindEvents();
 
-        minValueChanged.clear();
-        maxValueChanged.clear();
+        if (minValueChanged != null) minValueChanged.clear();
+        if (maxValueChanged != null) maxValueChanged.clear();
 
-        defaultMinValueChanged.clear();
-        defaultMaxValueChanged.clear();
+        if (defaultMinValueChanged != null) defaultMinValueChanged.clear();
+        if (defaultMaxValueChanged != null) defaultMaxValueChanged.clear();
     }
 
     @Override
@@ -428,22 +434,30 @@ public abstract class RangeConstrainedBindable<T extends Number> extends StrongB
     }
 
     @Override
-    public ValuedActionQueue<T> getOnMinChanged() {
+    public synchronized ValuedActionQueue<T> getOnMinChanged() {
+        if (minValueChanged == null) minValueChanged = new ValuedActionQueue<>();
+
         return minValueChanged;
     }
 
     @Override
-    public ValuedActionQueue<T> getOnMaxChanged() {
+    public synchronized ValuedActionQueue<T> getOnMaxChanged() {
+        if (maxValueChanged == null) maxValueChanged = new ValuedActionQueue<>();
+
         return maxValueChanged;
     }
 
     @Override
-    public ValuedActionQueue<T> getOnDefaultMinChanged() {
+    public synchronized ValuedActionQueue<T> getOnDefaultMinChanged() {
+        if (defaultMinValueChanged == null) defaultMinValueChanged = new ValuedActionQueue<>();
+
         return defaultMinValueChanged;
     }
 
     @Override
-    public ValuedActionQueue<T> getOnDefaultMaxChanged() {
+    public synchronized ValuedActionQueue<T> getOnDefaultMaxChanged() {
+        if (defaultMaxValueChanged == null) defaultMaxValueChanged = new ValuedActionQueue<>();
+
         return defaultMaxValueChanged;
     }
 }
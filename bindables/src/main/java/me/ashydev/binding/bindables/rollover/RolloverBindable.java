@@ -32,6 +32,22 @@ public class RolloverBindable<T> extends Bindable<T> implements Rollable<T> {
         set(values.indexOf(value));
     }
 
+    @Override
+    public boolean compareAndSet(T expected, T next) {
+        if (!values.contains(next)) return false;
+
+        if (!super.compareAndSet(expected, next)) return false;
+
+        this.index = values.indexOf(next);
+
+        return true;
+    }
+
+    @Override
+    protected boolean accepts(Bindable<T> source) {
+        return values.contains(source.get());
+    }
+
     @Override
     public void set(int index) {
         this.index = recalculate(index);
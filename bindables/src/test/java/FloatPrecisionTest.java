@@ -30,4 +30,19 @@ public class FloatPrecisionTest {
 
         assert bindable.get() == 0.01f;
     }
+
+    @Test
+    public void testCyclicPrecisionPropagation() {
+        PrecisionBindable<Float> second = new PrecisionBindable<>(0.0f, 0.01f), third = new PrecisionBindable<>(0.0f, 0.01f);
+
+        second.bindTo(bindable);
+        third.bindTo(second);
+        bindable.bindTo(third);
+
+        bindable.setPrecision(0.1f);
+        bindable.setDefaultPrecision(0.1f);
+
+        assert second.getPrecision() == 0.1f && third.getPrecision() == 0.1f;
+        assert second.getDefaultPrecision() == 0.1f && third.getDefaultPrecision() == 0.1f;
+    }
 }
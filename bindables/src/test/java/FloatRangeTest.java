@@ -5,6 +5,8 @@
  * more information.
  */
 
+import me.ashydev.binding.bindable.Bindable;
+import me.ashydev.binding.bindables.ranged.RangeConstrainedBindable;
 import me.ashydev.binding.bindables.ranged.RangedBindable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -37,4 +39,54 @@ public class FloatRangeTest {
 
         assert rangedBindable.get() == 100.0f;
     }
+
+    @Test
+    public void testBoundRangePropagates() {
+        RangeConstrainedBindable<Float> other = rangedBindable.getBoundCopy();
+
+        rangedBindable.setMax(10.0f);
+        rangedBindable.setDisabled(true);
+
+        assert other.getMax() == 10.0f;
+        assert other.isDisabled();
+
+        other.set(50.0f);
+
+        assert rangedBindable.get() == 10.0f;
+    }
+
+    @Test
+    public void testGroupReconcilesToClampedMember() {
+        Bindable<Float> first = new Bindable<>(0.0f), second = new Bindable<>(0.0f);
+
+        rangedBindable.bindTo(first);
+        second.bindTo(first);
+
+        first.set(150.0f);
+
+        assert rangedBindable.get() == 100.0f;
+        assert first.get() == 100.0f;
+        assert second.get() == 100.0f;
+
+        second.set(-20.0f);
+
+        assert rangedBindable.get() == 0.0f;
+        assert first.get() == 0.0f;
+        assert second.get() == 0.0f;
+    }
+
+    @Test
+    public void testCyclicRangePropagation() {
+        RangedBindable<Float> second = new RangedBindable<>(0.0f, 0.0f, 100.0f), third = new RangedBindable<>(0.0f, 0.0f, 100.0f);
+
+        second.bindTo(rangedBindable);
+        third.bindTo(second);
+        rangedBindable.bindTo(third);
+
+        rangedBindable.setMax(10.0f);
+        rangedBindable.setDefaultMin(5.0f);
+
+        assert second.getMax() == 10.0f && third.getMax() == 10.0f;
+        assert second.getDefaultMin() == 5.0f && third.getDefaultMin() == 5.0f;
+    }
 }
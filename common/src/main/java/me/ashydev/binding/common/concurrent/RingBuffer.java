@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.common.concurrent;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public final class RingBuffer<E> {
+    private static final VarHandle CURSOR, AVAILABLE = MethodHandles.arrayElementVarHandle(int[].class);
+
+    static {
+        try {
+            CURSOR = MethodHandles.lookup().findVarHandle(RingBuffer.class, "cursor", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // Entries are created once up front and reused on every lap; producers write into the entry of
+    // the sequence they claimed instead of handing over a new object.
+    private final Object[] entries;
+    // The round in which each slot was last published, so a consumer can tell a fresh entry from
+    // one left over by the previous lap without a shared published cursor.
+    private final int[] available;
+    private final int mask, shift;
+
+    // Last claimed and last consumed sequence; producers claim with a CAS on the cursor and are
+    // gated by the consumer sequence, which only the consuming thread writes.
+    private volatile long cursor = -1;
+    private volatile long consumed = -1;
+
+    public RingBuffer(int capacity, Supplier<? extends E> factory) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1)
+            throw new IllegalArgumentException(String.format("Capacity must be a positive power of two, got %s", capacity));
+
+        Objects.requireNonNull(factory, "factory");
+
+        this.entries = new Object[capacity];
+        this.available = new int[capacity];
+        this.mask = capacity - 1;
+        this.shift = Integer.numberOfTrailingZeros(capacity);
+
+        for (int i = 0; i < capacity; i++) entries[i] = Objects.requireNonNull(factory.get(), "entry");
+
+        Arrays.fill(available, -1);
+    }
+
+    public int capacity() {
+        return entries.length;
+    }
+
+    public int size() {
+        return (int) (cursor - consumed);
+    }
+
+    public boolean isEmpty() {
+        return cursor == consumed;
+    }
+
+    // Returns the claimed sequence, or -1 when the buffer is full.
+    public long tryNext() {
+        long current, next;
+
+        do {
+            current = cursor;
+            next = current + 1;
+
+            if (next - entries.length > consumed) return -1;
+        } while (!CURSOR.compareAndSet(this, current, next));
+
+        return next;
+    }
+
+    // Spins briefly while the buffer is full, then backs off with short parks until the consumer
+    // frees a slot.
+    public long next() {
+        long sequence;
+
+        for (int spins = 0; (sequence = tryNext()) < 0; spins++) {
+            if (spins < 64) Thread.onSpinWait();
+            else LockSupport.parkNanos(this, 1_000);
+        }
+
+        return sequence;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E get(long sequence) {
+        return (E) entries[(int) sequence & mask];
+    }
+
+    public void publish(long sequence) {
+        AVAILABLE.setVolatile(available, (int) sequence & mask, (int) (sequence >>> shift));
+    }
+
+    // Only a single thread may drain. The consumer sequence is published once per batch, so
+    // producers see the freed slots together rather than one at a time.
+    @SuppressWarnings("unchecked")
+    public int drain(Consumer<? super E> consumer, int limit) {
+        long start = consumed, last = start;
+
+        try {
+            while (last - start < limit) {
+                long next = last + 1;
+                int index = (int) next & mask;
+
+                if ((int) AVAILABLE.getVolatile(available, index) != (int) (next >>> shift)) break;
+
+                last = next;
+
+                consumer.accept((E) entries[index]);
+            }
+        } finally {
+            if (last != start) consumed = last;
+        }
+
+        return (int) (last - start);
+    }
+}
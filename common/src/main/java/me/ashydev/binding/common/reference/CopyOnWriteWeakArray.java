@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.common.reference;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class CopyOnWriteWeakArray<T> implements Iterable<WeakReference<T>> {
+    private static final WeakReference<?>[] EMPTY = new WeakReference<?>[0];
+    private static final VarHandle REFERENCES;
+
+    static {
+        try {
+            REFERENCES = MethodHandles.lookup().findVarHandle(CopyOnWriteWeakArray.class, "references", WeakReference[].class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile WeakReference<T>[] references = empty();
+
+    @SuppressWarnings("unchecked")
+    private static <T> WeakReference<T>[] empty() {
+        return (WeakReference<T>[]) EMPTY;
+    }
+
+    private static int indexOf(WeakReference<?>[] references, Object reference) {
+        for (int i = 0; i < references.length; i++) {
+            if (references[i] == reference) return i;
+        }
+
+        return -1;
+    }
+
+    // The returned array is shared between readers and must never be modified.
+    public WeakReference<T>[] snapshot() {
+        return references;
+    }
+
+    public int size() {
+        return references.length;
+    }
+
+    public boolean isEmpty() {
+        return references.length == 0;
+    }
+
+    public boolean contains(Object reference) {
+        return indexOf(references, reference) != -1;
+    }
+
+    public boolean add(WeakReference<T> reference) {
+        TrackedWeakReference.expunge();
+
+        while (true) {
+            WeakReference<T>[] current = references;
+            WeakReference<T>[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = reference;
+
+            if (REFERENCES.compareAndSet(this, current, next)) break;
+        }
+
+        if (reference instanceof TrackedWeakReference<T> tracked) tracked.track(this);
+
+        return true;
+    }
+
+    public boolean addIfAbsent(WeakReference<T> reference) {
+        TrackedWeakReference.expunge();
+
+        while (true) {
+            WeakReference<T>[] current = references;
+
+            if (indexOf(current, reference) != -1) return false;
+
+            WeakReference<T>[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = reference;
+
+            if (REFERENCES.compareAndSet(this, current, next)) break;
+        }
+
+        if (reference instanceof TrackedWeakReference<T> tracked) tracked.track(this);
+
+        return true;
+    }
+
+    public boolean remove(Object reference) {
+        TrackedWeakReference.expunge();
+
+        if (!discard(reference)) return false;
+
+        if (reference instanceof TrackedWeakReference<?> tracked) tracked.untrack(this);
+
+        return true;
+    }
+
+    boolean discard(Object reference) {
+        while (true) {
+            WeakReference<T>[] current = references;
+            int index = indexOf(current, reference);
+
+            if (index == -1) return false;
+
+            if (REFERENCES.compareAndSet(this, current, without(current, index))) return true;
+        }
+    }
+
+    public int removeCleared() {
+        while (true) {
+            WeakReference<T>[] current = references;
+            WeakReference<T>[] next = Arrays.copyOf(current, current.length);
+            int size = 0;
+
+            for (WeakReference<T> reference : current) {
+                if (!reference.refersTo(null)) next[size++] = reference;
+            }
+
+            if (size == current.length) return 0;
+
+            next = size == 0 ? empty() : Arrays.copyOf(next, size);
+
+            if (REFERENCES.compareAndSet(this, current, next)) return current.length - size;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void clear() {
+        WeakReference<T>[] current = (WeakReference<T>[]) REFERENCES.getAndSet(this, empty());
+
+        for (WeakReference<T> reference : current) {
+            if (reference instanceof TrackedWeakReference<T> tracked) tracked.untrack(this);
+        }
+    }
+
+    private static <T> WeakReference<T>[] without(WeakReference<T>[] current, int index) {
+        if (current.length == 1) return empty();
+
+        WeakReference<T>[] next = Arrays.copyOf(current, current.length - 1);
+        System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+
+        return next;
+    }
+
+    @Override
+    public Iterator<WeakReference<T>> iterator() {
+        final WeakReference<T>[] snapshot = references;
+
+        return new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < snapshot.length;
+            }
+
+            @Override
+            public WeakReference<T> next() {
+                if (index >= snapshot.length) throw new NoSuchElementException();
+
+                return snapshot[index++];
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "CopyOnWriteWeakArray{" +
+                "references=" + Arrays.toString(references) +
+                '}';
+    }
+}
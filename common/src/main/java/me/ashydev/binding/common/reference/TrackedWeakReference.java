@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.common.reference;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+
+public class TrackedWeakReference<T> extends WeakReference<T> {
+    private static final ReferenceQueue<Object> QUEUE = new ReferenceQueue<>();
+
+    // Shared by every reference without owners; it has no slots, so nothing ever writes through it.
+    @SuppressWarnings("unchecked")
+    private static final WeakReference<CopyOnWriteWeakArray<?>>[] NO_OWNERS = (WeakReference<CopyOnWriteWeakArray<?>>[]) new WeakReference<?>[0];
+
+    private WeakReference<CopyOnWriteWeakArray<?>>[] owners = NO_OWNERS;
+
+    public TrackedWeakReference(T referent) {
+        super(referent, QUEUE);
+    }
+
+    public static int expunge() {
+        int expunged = 0;
+
+        for (Reference<?> reference; (reference = QUEUE.poll()) != null; expunged++) {
+            ((TrackedWeakReference<?>) reference).discard();
+        }
+
+        return expunged;
+    }
+
+    synchronized void track(CopyOnWriteWeakArray<?> owner) {
+        int size = 0;
+
+        for (WeakReference<CopyOnWriteWeakArray<?>> reference : owners) {
+            if (reference.refersTo(owner)) return;
+            if (!reference.refersTo(null)) owners[size++] = reference;
+        }
+
+        owners = Arrays.copyOf(owners, size + 1);
+        owners[size] = new WeakReference<>(owner);
+    }
+
+    synchronized void untrack(CopyOnWriteWeakArray<?> owner) {
+        int size = 0;
+
+        for (WeakReference<CopyOnWriteWeakArray<?>> reference : owners) {
+            if (!reference.refersTo(owner) && !reference.refersTo(null)) owners[size++] = reference;
+        }
+
+        owners = size == 0 ? NO_OWNERS : Arrays.copyOf(owners, size);
+    }
+
+    private void discard() {
+        WeakReference<CopyOnWriteWeakArray<?>>[] owners;
+
+        synchronized (this) {
+            owners = this.owners;
+            this.owners = NO_OWNERS;
+        }
+
+        for (WeakReference<CopyOnWriteWeakArray<?>> reference : owners) {
+            CopyOnWriteWeakArray<?> owner = reference.get();
+
+            if (owner != null) owner.discard(this);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+import me.ashydev.binding.common.reference.CopyOnWriteWeakArray;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+
+public class CopyOnWriteWeakArrayTest {
+    private CopyOnWriteWeakArray<Object> array;
+
+    @BeforeEach
+    public void setUp() {
+        array = new CopyOnWriteWeakArray<>();
+    }
+
+    @Test
+    public void testAddIfAbsent() {
+        WeakReference<Object> reference = new WeakReference<>(new Object());
+
+        assert array.addIfAbsent(reference);
+        assert !array.addIfAbsent(reference);
+        assert array.size() == 1;
+    }
+
+    @Test
+    public void testSnapshotIsStable() {
+        WeakReference<Object> first = new WeakReference<>(new Object());
+        WeakReference<Object> second = new WeakReference<>(new Object());
+
+        array.add(first);
+
+        WeakReference<Object>[] snapshot = array.snapshot();
+
+        array.add(second);
+        array.remove(first);
+
+        assert snapshot.length == 1 && snapshot[0] == first;
+        assert array.size() == 1 && array.contains(second);
+    }
+
+    @Test
+    public void testConcurrentMutation() throws InterruptedException {
+        final Object[] referents = new Object[1000];
+
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < referents.length; i++) {
+                referents[i] = new Object();
+                array.add(new WeakReference<>(referents[i]));
+            }
+        });
+
+        writer.start();
+
+        while (writer.isAlive()) {
+            for (WeakReference<Object> reference : array) {
+                assert reference != null;
+            }
+        }
+
+        writer.join();
+
+        assert array.size() == referents.length;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+import me.ashydev.binding.common.concurrent.RingBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class RingBufferTest {
+    private static void publish(RingBuffer<long[]> buffer, long sequence, long producer, long value) {
+        long[] entry = buffer.get(sequence);
+
+        entry[0] = producer;
+        entry[1] = value;
+
+        buffer.publish(sequence);
+    }
+
+    @Test
+    public void testClaimFailsWhenFull() {
+        RingBuffer<long[]> buffer = new RingBuffer<>(4, () -> new long[2]);
+
+        for (int i = 0; i < 4; i++) publish(buffer, buffer.tryNext(), 0, i);
+
+        assert buffer.tryNext() < 0;
+        assert buffer.size() == 4;
+
+        List<Long> drained = new ArrayList<>();
+
+        assert buffer.drain((entry) -> drained.add(entry[1]), 2) == 2;
+
+        publish(buffer, buffer.tryNext(), 0, 4);
+        publish(buffer, buffer.tryNext(), 0, 5);
+
+        assert buffer.drain((entry) -> drained.add(entry[1]), Integer.MAX_VALUE) == 4;
+
+        assert drained.equals(List.of(0L, 1L, 2L, 3L, 4L, 5L));
+        assert buffer.isEmpty();
+    }
+
+    @Test
+    public void testEntriesAreReused() {
+        RingBuffer<long[]> buffer = new RingBuffer<>(2, () -> new long[2]);
+
+        long first = buffer.next();
+        long[] entry = buffer.get(first);
+
+        buffer.publish(first);
+        buffer.drain((ignored) -> {}, 1);
+        buffer.next();
+        buffer.next();
+
+        assert buffer.get(first + 2) == entry;
+    }
+
+    @Test
+    public void testConcurrentProducersKeepTheirOrder() throws InterruptedException {
+        final int producers = 4, count = 20_000;
+
+        RingBuffer<long[]> buffer = new RingBuffer<>(64, () -> new long[2]);
+        Thread[] threads = new Thread[producers];
+
+        for (int p = 0; p < producers; p++) {
+            final int producer = p;
+
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < count; i++) publish(buffer, buffer.next(), producer, i);
+            });
+            threads[p].start();
+        }
+
+        int[] next = new int[producers];
+        int received = 0;
+
+        while (received < producers * count) {
+            received += buffer.drain((entry) -> {
+                assert entry[1] == next[(int) entry[0]]++;
+            }, 16);
+        }
+
+        for (Thread thread : threads) thread.join();
+
+        for (int expected : next) assert expected == count;
+        assert buffer.isEmpty();
+    }
+}
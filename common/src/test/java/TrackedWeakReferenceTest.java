@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+import me.ashydev.binding.common.reference.CopyOnWriteWeakArray;
+import me.ashydev.binding.common.reference.TrackedWeakReference;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+
+public class TrackedWeakReferenceTest {
+
+    @Test
+    public void testCollectedReferencesArePruned() throws InterruptedException {
+        CopyOnWriteWeakArray<Object> first = new CopyOnWriteWeakArray<>();
+        CopyOnWriteWeakArray<Object> second = new CopyOnWriteWeakArray<>();
+
+        Object survivor = new Object();
+
+        for (int i = 0; i < 100; i++) {
+            TrackedWeakReference<Object> reference = new TrackedWeakReference<>(new Object());
+
+            first.add(reference);
+            second.add(reference);
+        }
+
+        first.add(new TrackedWeakReference<>(survivor));
+
+        long deadline = System.currentTimeMillis() + 10_000;
+
+        while ((first.size() > 1 || !second.isEmpty()) && System.currentTimeMillis() < deadline) {
+            System.gc();
+            Thread.sleep(10);
+
+            TrackedWeakReference.expunge();
+        }
+
+        assert first.size() == 1 && first.snapshot()[0].refersTo(survivor);
+        assert second.isEmpty();
+    }
+
+    @Test
+    public void testUntrackedReferencesAreIgnored() {
+        CopyOnWriteWeakArray<Object> array = new CopyOnWriteWeakArray<>();
+
+        array.add(new WeakReference<>(new Object()));
+
+        TrackedWeakReference.expunge();
+
+        assert array.size() == 1;
+    }
+}
@@ -15,7 +15,7 @@ public interface IBindable<T>
         extends IUnbindable, IContainer<T>, IDisableable,
         ICopyable<IBindable<T>>, InstanceContainer<IBindable<T>>,
         IBindingContainer<IBindable<T>>, ILeaser<ILeasedBindable<T>>,
-        Serializable {
+        IScheduled, IVersioned, Serializable {
 
     static <T, V extends IBindable<T>> IBindable<T> create(V source) {
         IBindable<T> copy = source.createInstance();
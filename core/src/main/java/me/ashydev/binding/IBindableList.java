@@ -8,20 +8,28 @@
 package me.ashydev.binding;
 
 import me.ashydev.binding.action.Action;
+import me.ashydev.binding.action.ExecutorAction;
+import me.ashydev.binding.action.Subscription;
 import me.ashydev.binding.action.queue.ActionQueue;
+import me.ashydev.binding.action.queue.OverflowStrategy;
 import me.ashydev.binding.event.collection.CollectionEvent;
 import me.ashydev.binding.types.IBindingContainer;
 import me.ashydev.binding.types.ICopyable;
 import me.ashydev.binding.types.IDisableable;
+import me.ashydev.binding.types.IScheduled;
+import me.ashydev.binding.types.IVersioned;
 import me.ashydev.binding.types.InstanceContainer;
 
 import java.io.Serializable;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.function.BiConsumer;
 
 public interface IBindableList<T>
         extends List<T>, IDisableable, ICopyable<IBindableList<T>>,
         IUnbindable, InstanceContainer<IBindableList<T>>, IBindingContainer<IBindableList<T>>,
-        Serializable {
+        IScheduled, IVersioned, Serializable {
     static <T, V extends IBindableList<T>> IBindableList<T> create(V source) {
         IBindableList<T> copy = source.createInstance();
 
@@ -48,10 +56,26 @@ public interface IBindableList<T>
         return copy.weakBind(source);
     }
 
-    void onCollectionChanged(Action<CollectionEvent<T>> action, boolean runOnceImmediately);
+    Subscription onCollectionChanged(Action<CollectionEvent<T>> action, boolean runOnceImmediately);
 
-    default void onCollectionChanged(Action<CollectionEvent<T>> action) {
-        onCollectionChanged(action, false);
+    default Subscription onCollectionChanged(Action<CollectionEvent<T>> action) {
+        return onCollectionChanged(action, false);
+    }
+
+    default Subscription onCollectionChanged(Action<CollectionEvent<T>> action, int priority) {
+        return getCollectionChanged().subscribe(action, priority);
+    }
+
+    default <O> Subscription onCollectionChanged(O owner, BiConsumer<? super O, ? super CollectionEvent<T>> action) {
+        return getCollectionChanged().subscribeWeak(owner, action);
+    }
+
+    default Subscription onCollectionChanged(Action<CollectionEvent<T>> action, Executor executor) {
+        return onCollectionChanged(new ExecutorAction<>(action, executor), false);
+    }
+
+    default Flow.Publisher<CollectionEvent<T>> publisher(OverflowStrategy strategy, int capacity) {
+        return getCollectionChanged().publisher(strategy, capacity);
     }
 
     ActionQueue<CollectionEvent<T>> getCollectionChanged();
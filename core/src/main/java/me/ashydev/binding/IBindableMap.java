@@ -8,20 +8,28 @@
 package me.ashydev.binding;
 
 import me.ashydev.binding.action.Action;
+import me.ashydev.binding.action.ExecutorAction;
+import me.ashydev.binding.action.Subscription;
 import me.ashydev.binding.action.queue.ActionQueue;
+import me.ashydev.binding.action.queue.OverflowStrategy;
 import me.ashydev.binding.event.map.MapEvent;
 import me.ashydev.binding.types.IBindingContainer;
 import me.ashydev.binding.types.ICopyable;
 import me.ashydev.binding.types.IDisableable;
+import me.ashydev.binding.types.IScheduled;
+import me.ashydev.binding.types.IVersioned;
 import me.ashydev.binding.types.InstanceContainer;
 
 import java.io.Serializable;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.function.BiConsumer;
 
 public interface IBindableMap<K, V>
         extends Map<K, V>, IDisableable, ICopyable<IBindableMap<K, V>>,
         IUnbindable, InstanceContainer<IBindableMap<K, V>>,
-        IBindingContainer<IBindableMap<K, V>>, Serializable {
+        IBindingContainer<IBindableMap<K, V>>, IScheduled, IVersioned, Serializable {
     static <K, V, M extends IBindableMap<K, V>> IBindableMap<K, V> create(M source) {
         IBindableMap<K, V> copy = source.createInstance();
 
@@ -48,10 +56,26 @@ public interface IBindableMap<K, V>
         return copy.weakBind(source);
     }
 
-    void onCollectionChanged(Action<MapEvent<K, V>> action, boolean runOnceImmediately);
+    Subscription onCollectionChanged(Action<MapEvent<K, V>> action, boolean runOnceImmediately);
 
-    default void onCollectionChanged(Action<MapEvent<K, V>> action) {
-        onCollectionChanged(action, false);
+    default Subscription onCollectionChanged(Action<MapEvent<K, V>> action) {
+        return onCollectionChanged(action, false);
+    }
+
+    default Subscription onCollectionChanged(Action<MapEvent<K, V>> action, int priority) {
+        return getCollectionChanged().subscribe(action, priority);
+    }
+
+    default <O> Subscription onCollectionChanged(O owner, BiConsumer<? super O, ? super MapEvent<K, V>> action) {
+        return getCollectionChanged().subscribeWeak(owner, action);
+    }
+
+    default Subscription onCollectionChanged(Action<MapEvent<K, V>> action, Executor executor) {
+        return onCollectionChanged(new ExecutorAction<>(action, executor), false);
+    }
+
+    default Flow.Publisher<MapEvent<K, V>> publisher(OverflowStrategy strategy, int capacity) {
+        return getCollectionChanged().publisher(strategy, capacity);
     }
 
     ActionQueue<MapEvent<K, V>> getCollectionChanged();
@@ -11,30 +11,57 @@ import me.ashydev.binding.IBindable;
 import me.ashydev.binding.ILeasedBindable;
 import me.ashydev.binding.IUnbindable;
 import me.ashydev.binding.action.Action;
+import me.ashydev.binding.action.Subscription;
 import me.ashydev.binding.action.ValuedAction;
-import me.ashydev.binding.action.event.ValueChangedEvent;
+import me.ashydev.binding.action.execution.Scheduler;
 import me.ashydev.binding.action.queue.ValuedActionQueue;
-import me.ashydev.binding.common.reference.LockedWeakList;
-import me.ashydev.binding.types.ILeaser;
+import me.ashydev.binding.common.reference.CopyOnWriteWeakArray;
+import me.ashydev.binding.common.reference.TrackedWeakReference;
+import me.ashydev.binding.types.EqualityStrategy;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.lang.ref.WeakReference;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 public class Bindable<T> implements IBindable<T> {
+    private static final VarHandle VALUE, VERSION;
+    private static final BiConsumer<Bindable<?>, Bindable<?>> DISABLED = (target, origin) -> target.setDisabled(origin.disabled);
+    private static final BiConsumer<Bindable<?>, Object> SCHEDULED_SET = Bindable::setScheduled;
+    private static final BiConsumer<Bindable<?>, Boolean> SCHEDULED_DISABLED = Bindable::setDisabled;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+            VALUE = lookup.findVarHandle(Bindable.class, "value", Object.class);
+            VERSION = lookup.findVarHandle(BindableState.class, "version", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void setScheduled(Bindable<?> target, Object value) {
+        ((Bindable<Object>) target).set(value);
+    }
+
     protected static <T, V extends Bindable<T>> V source(V source, V self) {
         return source != null ? source : self;
     }
 
-    protected transient final WeakReference<Bindable<T>> weakReference = new WeakReference<>(this);
-
-    protected transient final ValuedActionQueue<T> valueChanged = new ValuedActionQueue<>();
-    protected transient final ValuedActionQueue<ILeaser.LeaseState> leaseChanged = new ValuedActionQueue<>();
-    protected transient final ValuedActionQueue<Boolean> disabledChanged = new ValuedActionQueue<>();
+    public static <A, B, R> ComputedBindable<R> combine(Bindable<A> a, Bindable<B> b, BiFunction<? super A, ? super B, ? extends R> combiner) {
+        return new ComputedBindable<>(() -> combiner.apply(a.get(), b.get()), a, b);
+    }
 
-    protected transient final LockedWeakList<Bindable<T>> bindings = new LockedWeakList<>();
+    private transient volatile BindableState<T> state;
 
     protected transient Class<T> type;
     protected transient LeasedBindable<T> leasedBindable;
@@ -58,63 +85,280 @@ public class Bindable<T> implements IBindable<T> {
         this.disabled = false;
     }
 
+    // Subclasses with their own default strategy pass it here rather than calling
+    // setEqualityStrategy from their constructor.
+    protected Bindable(T value, EqualityStrategy<? super T> equality) {
+        this(value);
+
+        if (equality != null) {
+            BindableState<T> state = new BindableState<>();
+            state.equality = equality;
+
+            this.state = state;
+        }
+    }
+
+    BindableState<T> state() {
+        BindableState<T> state = this.state;
+
+        if (state != null) return state;
+
+        synchronized (this) {
+            if (this.state == null) this.state = new BindableState<>();
+
+            return this.state;
+        }
+    }
+
+    protected synchronized WeakReference<Bindable<T>> getWeakReference() {
+        BindableState<T> state = state();
+
+        if (state.weakReference == null) state.weakReference = new TrackedWeakReference<>(this);
+
+        return state.weakReference;
+    }
+
+    protected synchronized CopyOnWriteWeakArray<Bindable<T>> getBindings() {
+        BindableState<T> state = state();
+
+        if (state.bindings == null) state.bindings = new CopyOnWriteWeakArray<>();
+
+        return state.bindings;
+    }
+
+    protected CopyOnWriteWeakArray<Bindable<T>> bindings() {
+        BindableState<T> state = this.state;
+
+        return state != null ? state.bindings : null;
+    }
+
+    protected ValuedActionQueue<T> valueChanged() {
+        BindableState<T> state = this.state;
+
+        return state != null ? state.valueChanged : null;
+    }
+
+    BindingGroup<T> group() {
+        BindableState<T> state = this.state;
+
+        return state != null ? state.group : null;
+    }
+
+    void setGroup(BindingGroup<T> group) {
+        if (group == null && state == null) return;
+
+        state().group = group;
+    }
+
+    private WeakReference<Bindable<T>> weakReference() {
+        BindableState<T> state = this.state;
+
+        return state != null ? state.weakReference : null;
+    }
+
+    protected boolean isBound(Bindable<T> bindable) {
+        CopyOnWriteWeakArray<Bindable<T>> bindings = bindings();
+        WeakReference<Bindable<T>> reference = bindable.weakReference();
+
+        return bindings != null && reference != null && bindings.contains(reference);
+    }
+
+    protected boolean isGrouped(Bindable<T> bindable) {
+        BindingGroup<T> group = group();
+
+        return group != null && group.contains(bindable);
+    }
+
+    protected boolean propagateToGroup() {
+        BindingGroup<T> group = group();
+
+        if (group == null) return false;
+
+        if (!group.consume()) group.propagate(this);
+
+        return true;
+    }
+
+    protected void applyFrom(Bindable<T> source) {
+        set(source.get());
+    }
+
+    // Constrained bindables return false when they would not keep the source's value as-is.
+    protected boolean accepts(Bindable<T> source) {
+        return true;
+    }
+
+    protected void propagateValue(Bindable<T> source) {
+        boolean grouped = propagateToGroup();
+        CopyOnWriteWeakArray<Bindable<T>> bindings = bindings();
+
+        if (bindings == null) return;
+
+        for (WeakReference<Bindable<T>> binding : bindings.snapshot()) {
+            if (binding.refersTo(source)) continue;
+
+            Bindable<T> bindable = binding.get();
+
+            if (bindable == null) {
+                bindings.remove(binding);
+
+                continue;
+            }
+
+            if (grouped && isGrouped(bindable)) continue;
+
+            Propagation.forward(Bindable::applyFrom, bindable, this);
+        }
+    }
+
+    protected void forward(BiConsumer<? super Bindable<T>, ? super Bindable<T>> propagator, Bindable<T> source) {
+        CopyOnWriteWeakArray<Bindable<T>> bindings = bindings();
+
+        if (bindings == null) return;
+
+        for (WeakReference<Bindable<T>> binding : bindings.snapshot()) {
+            if (binding.refersTo(source)) continue;
+
+            Bindable<T> bindable = binding.get();
+
+            if (bindable == null) {
+                bindings.remove(binding);
+
+                continue;
+            }
+
+            Propagation.forward(propagator, bindable, this);
+        }
+    }
+
     protected void propagate(Action<Bindable<T>> propagation, Bindable<T> source) {
-        Iterator<WeakReference<Bindable<T>>> iterator = bindings.iterator();
+        CopyOnWriteWeakArray<Bindable<T>> bindings = bindings();
 
-        while (iterator.hasNext()) {
-            WeakReference<Bindable<T>> binding = iterator.next();
+        if (bindings == null) return;
 
+        for (WeakReference<Bindable<T>> binding : bindings.snapshot()) {
             if (binding.refersTo(source)) continue;
 
             Bindable<T> bindable = binding.get();
 
             if (bindable == null) {
-                iterator.remove();
+                bindings.remove(binding);
 
                 continue;
             }
 
-            propagation.accept(bindable);
+            Propagation.forward(propagation, bindable);
         }
     }
 
     protected void propagate(Predicate<Bindable<T>> filter, Action<Bindable<T>> propagation, Bindable<T> source) {
-        Iterator<WeakReference<Bindable<T>>> iterator = bindings.iterator();
+        CopyOnWriteWeakArray<Bindable<T>> bindings = bindings();
 
-        while (iterator.hasNext()) {
-            WeakReference<Bindable<T>> binding = iterator.next();
+        if (bindings == null) return;
 
+        for (WeakReference<Bindable<T>> binding : bindings.snapshot()) {
             if (binding.refersTo(source)) continue;
 
             Bindable<T> bindable = binding.get();
 
             if (bindable == null) {
-                iterator.remove();
+                bindings.remove(binding);
 
                 continue;
             }
 
             if (!filter.test(bindable)) continue;
 
-            propagation.accept(bindable);
+            Propagation.forward(propagation, bindable);
         }
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public T get() {
-        return value;
+        return (T) VALUE.getAcquire(this);
+    }
+
+    public <R> ComputedBindable<R> map(Function<? super T, ? extends R> mapper) {
+        return new ComputedBindable<>(() -> mapper.apply(get()), this);
+    }
+
+    @Override
+    public long version() {
+        BindableState<T> state = this.state;
+
+        return state != null ? (long) VERSION.getAcquire(state) : 0L;
+    }
+
+    protected void incrementVersion() {
+        VERSION.getAndAdd(state(), 1L);
+    }
+
+    public EqualityStrategy<? super T> getEqualityStrategy() {
+        EqualityStrategy<? super T> equality = equality();
+
+        return equality != null ? equality : EqualityStrategy.identity();
+    }
+
+    public void setEqualityStrategy(EqualityStrategy<? super T> equality) {
+        if (equality == null && state == null) return;
+
+        state().equality = equality;
+    }
+
+    private EqualityStrategy<? super T> equality() {
+        BindableState<T> state = this.state;
+
+        return state != null ? state.equality : null;
+    }
+
+    protected boolean hasEqualityStrategy() {
+        return equality() != null;
+    }
+
+    protected boolean isEqual(T a, T b) {
+        EqualityStrategy<? super T> equality = equality();
+
+        return equality != null ? equality.equivalent(a, b) : a == b;
     }
 
     @Override
     public void set(T value) {
-        if (value == this.value) return;
+        if (isOffOwnerThread()) {
+            getScheduler().schedule(SCHEDULED_SET, this, value);
+
+            return;
+        }
+
+        if (isEqual(value, get())) return;
 
         updateValue(value, null);
     }
 
+    @Override
+    // expected matches any current value the equality strategy considers equivalent, the same
+    // comparison set() uses; the swap itself is made against the value actually held.
+    @SuppressWarnings("unchecked")
+    public boolean compareAndSet(T expected, T next) {
+        checkOwnerThread();
+
+        while (true) {
+            T current = (T) VALUE.getAcquire(this);
+
+            if (!isEqual(current, expected)) return false;
+            if (isEqual(current, next)) return true;
+
+            if (VALUE.compareAndSet(this, current, next)) {
+                triggerValueChanged(current, next, this);
+
+                return true;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
     protected void updateValue(T value, Bindable<T> source) {
-        T oldValue = this.value;
-        this.value = value;
+        T oldValue = (T) VALUE.getAndSet(this, value);
 
         triggerValueChanged(oldValue, value, source(source, this));
     }
@@ -140,10 +384,16 @@ public class Bindable<T> implements IBindable<T> {
             boolean propagateToBindings,
             Bindable<T> source
     ) {
-        if (propagateToBindings || bypassChecks) propagate((bindable) -> bindable.set(value), source);
+        boolean changed = !isEqual(beforePropagation, value);
 
-        if (beforePropagation != value || bypassChecks) {
-            valueChanged.execute(new ValueChangedEvent<>(beforePropagation, value));
+        if (changed) incrementVersion();
+
+        if (propagateToBindings || bypassChecks) propagateValue(source);
+
+        ValuedActionQueue<T> valueChanged = valueChanged();
+
+        if (valueChanged != null && (changed || bypassChecks)) {
+            Propagation.execute(valueChanged, beforePropagation, value, equality());
         }
     }
 
@@ -153,17 +403,23 @@ public class Bindable<T> implements IBindable<T> {
     }
 
     @Override
-    public void onValueChanged(ValuedAction<T> action, boolean runOnceImmediately) {
-        valueChanged.add(action);
+    public Subscription onValueChanged(ValuedAction<T> action, boolean runOnceImmediately) {
+        Subscription subscription = getValueChanged().subscribe(action);
 
         if (runOnceImmediately) {
-            action.accept(new ValueChangedEvent<>(value, value));
+            action.accept(value, value);
         }
+
+        return subscription;
     }
 
     @Override
-    public ValuedActionQueue<T> getValueChanged() {
-        return valueChanged;
+    public synchronized ValuedActionQueue<T> getValueChanged() {
+        BindableState<T> state = state();
+
+        if (state.valueChanged == null) state.valueChanged = new ValuedActionQueue<>();
+
+        return state.valueChanged;
     }
 
     protected void setDisabled(boolean value, Bindable<T> source) {
@@ -194,20 +450,27 @@ public class Bindable<T> implements IBindable<T> {
             boolean propagateToBindings,
             Bindable<T> source
     ) {
-        if (propagateToBindings || bypassChecks) propagate((bindable) -> bindable.setDisabled(value), source);
+        if (beforePropagation != value) incrementVersion();
 
-        if (beforePropagation != disabled || bypassChecks) {
-            disabledChanged.execute(new ValueChangedEvent<>(beforePropagation, value));
+        if (propagateToBindings || bypassChecks) forward(DISABLED, source);
+
+        BindableState<T> state = this.state;
+        ValuedActionQueue<Boolean> disabledChanged = state != null ? state.disabledChanged : null;
+
+        if (disabledChanged != null && (beforePropagation != disabled || bypassChecks)) {
+            Propagation.execute(disabledChanged, beforePropagation, value);
         }
     }
 
     @Override
-    public void onDisabledChanged(ValuedAction<Boolean> action, boolean runOnceImmediately) {
-        disabledChanged.add(action);
+    public Subscription onDisabledChanged(ValuedAction<Boolean> action, boolean runOnceImmediately) {
+        Subscription subscription = getDisabledChanged().subscribe(action);
 
         if (runOnceImmediately) {
-            action.accept(new ValueChangedEvent<>(disabled, disabled));
+            action.accept(disabled, disabled);
         }
+
+        return subscription;
     }
 
     @Override
@@ -217,14 +480,24 @@ public class Bindable<T> implements IBindable<T> {
 
     @Override
     public void setDisabled(boolean disabled) {
+        if (isOffOwnerThread()) {
+            getScheduler().schedule(SCHEDULED_DISABLED, this, disabled);
+
+            return;
+        }
+
         if (disabled == this.disabled) return;
 
         setDisabled(disabled, null);
     }
 
     @Override
-    public ValuedActionQueue<Boolean> getDisabledChanged() {
-        return disabledChanged;
+    public synchronized ValuedActionQueue<Boolean> getDisabledChanged() {
+        BindableState<T> state = state();
+
+        if (state.disabledChanged == null) state.disabledChanged = new ValuedActionQueue<>();
+
+        return state.disabledChanged;
     }
 
     @Override
@@ -243,7 +516,9 @@ public class Bindable<T> implements IBindable<T> {
 
     @Override
     public Bindable<T> copyTo(IBindable<T> other) {
-        if (!(other instanceof Bindable)) return null;
+        if (!(other instanceof Bindable<T> bindable)) return null;
+
+        copyStateTo(bindable);
 
         other.set(get());
         other.setDisabled(isDisabled());
@@ -270,7 +545,7 @@ public class Bindable<T> implements IBindable<T> {
     public Bindable<T> bindTo(IBindable<T> other) {
         if (!(other instanceof Bindable<T> bindable)) return null;
 
-        if (bindings.contains(bindable.weakReference))
+        if (isBound(bindable))
             throw new IllegalArgumentException(String.format("Attempted to bind %s to %s, but it was already bound", this.getClass().getSimpleName(), other.getClass().getSimpleName()));
 
         bindable.copyTo(this);
@@ -279,6 +554,8 @@ public class Bindable<T> implements IBindable<T> {
 
         bindable.refer(this);
 
+        BindingGroup.merge(this, bindable);
+
         return this;
     }
 
@@ -293,33 +570,44 @@ public class Bindable<T> implements IBindable<T> {
         return this;
     }
 
-    protected void refer(Bindable<T> bindable) {
-        WeakReference<Bindable<T>> reference = bindable.weakReference;
+    protected void copyStateTo(Bindable<T> bindable) {
+        Scheduler scheduler = getScheduler();
+        EqualityStrategy<? super T> equality = equality();
 
-        if (bindings.contains(reference))
-            throw new IllegalArgumentException(String.format("Attempted to add a binding to %s from %s, but it was already bound", this.getClass().getSimpleName(), bindable.getClass().getSimpleName()));
+        if (equality != null) bindable.setEqualityStrategy(equality);
+
+        if (scheduler != null && bindable.getScheduler() == null) bindable.setScheduler(scheduler);
+    }
 
-        bindings.add(reference);
+    protected void refer(Bindable<T> bindable) {
+        if (!getBindings().addIfAbsent(bindable.getWeakReference()))
+            throw new IllegalArgumentException(String.format("Attempted to add a binding to %s from %s, but it was already bound", this.getClass().getSimpleName(), bindable.getClass().getSimpleName()));
     }
 
     protected void unrefer(Bindable<T> bindable) {
-        WeakReference<Bindable<T>> reference = bindable.weakReference;
+        CopyOnWriteWeakArray<Bindable<T>> bindings = bindings();
 
-        if (!bindings.contains(reference))
+        if (bindings == null || !bindings.remove(bindable.weakReference()))
             throw new IllegalArgumentException(String.format("Attempted to remove a binding to %s from %s, but it was not bound", this.getClass().getSimpleName(), bindable.getClass().getSimpleName()));
-
-        bindings.remove(reference);
     }
 
     @Override
     public void unbindEvents() {
-        valueChanged.clear();
-        disabledChanged.clear();
+        BindableState<T> state = this.state;
+
+        if (state == null) return;
+
+        if (state.valueChanged != null) state.valueChanged.clear();
+        if (state.disabledChanged != null) state.disabledChanged.clear();
     }
 
     @Override
     public void unbindWeak() {
-        for (WeakReference<Bindable<T>> binding : new ArrayList<>(bindings)) {
+        CopyOnWriteWeakArray<Bindable<T>> bindings = bindings();
+
+        if (bindings == null) return;
+
+        for (WeakReference<Bindable<T>> binding : bindings.snapshot()) {
             Bindable<T> bindable = binding.get();
 
             if (bindable == null) {
@@ -335,7 +623,11 @@ public class Bindable<T> implements IBindable<T> {
 
     @Override
     public void unbindBindings() {
-        for (WeakReference<Bindable<T>> binding : new ArrayList<>(bindings)) {
+        CopyOnWriteWeakArray<Bindable<T>> bindings = bindings();
+
+        if (bindings == null) return;
+
+        for (WeakReference<Bindable<T>> binding : bindings.snapshot()) {
             Bindable<T> bindable = binding.get();
 
             if (bindable == null) {
@@ -364,6 +656,8 @@ public class Bindable<T> implements IBindable<T> {
 
         unrefer(bindable);
         bindable.unrefer(this);
+
+        BindingGroup.split(this, bindable);
     }
 
     @Override
@@ -387,12 +681,19 @@ public class Bindable<T> implements IBindable<T> {
     }
 
     protected void triggerLeaseChanged(LeaseState old, LeaseState value) {
-        leaseChanged.execute(new ValueChangedEvent<>(old, value));
+        BindableState<T> state = this.state;
+        ValuedActionQueue<LeaseState> leaseChanged = state != null ? state.leaseChanged : null;
+
+        if (leaseChanged != null) Propagation.execute(leaseChanged, old, value);
     }
 
     @Override
-    public ValuedActionQueue<LeaseState> getLeaseChanged() {
-        return leaseChanged;
+    public synchronized ValuedActionQueue<LeaseState> getLeaseChanged() {
+        BindableState<T> state = state();
+
+        if (state.leaseChanged == null) state.leaseChanged = new ValuedActionQueue<>();
+
+        return state.leaseChanged;
     }
 
     @Override
@@ -425,26 +726,50 @@ public class Bindable<T> implements IBindable<T> {
     }
 
     @Override
-    public void onLeaseChanged(ValuedAction<LeaseState> action, boolean runOnceImmediately) {
-        leaseChanged.add(action);
+    public Subscription onLeaseChanged(ValuedAction<LeaseState> action, boolean runOnceImmediately) {
+        Subscription subscription = getLeaseChanged().subscribe(action);
 
         if (runOnceImmediately) {
-            action.accept(new ValueChangedEvent<>(getLeaseState(), getLeaseState()));
+            action.accept(getLeaseState(), getLeaseState());
         }
+
+        return subscription;
     }
 
     private boolean checkForLease(Bindable<T> source) {
         if (getLeaseState() == LeaseState.LEASED)
             return true;
 
-        if (bindings.isEmpty())
+        CopyOnWriteWeakArray<Bindable<T>> bindings = bindings();
+
+        if (bindings == null || bindings.isEmpty())
             return false;
 
-        AtomicBoolean found = new AtomicBoolean(false);
+        Set<Bindable<T>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        ArrayDeque<Bindable<T>> pending = new ArrayDeque<>();
+
+        visited.add(this);
+        visited.add(source);
+        pending.add(this);
+
+        while (!pending.isEmpty()) {
+            CopyOnWriteWeakArray<Bindable<T>> current = pending.poll().bindings();
+
+            if (current == null) continue;
+
+            for (WeakReference<Bindable<T>> binding : current.snapshot()) {
+                Bindable<T> bindable = binding.get();
 
-        propagate((bindable) -> found.set(found.get() | bindable.checkForLease(source)), source);
+                if (bindable == null || !visited.add(bindable)) continue;
 
-        return found.get();
+                if (bindable.getLeaseState() == LeaseState.LEASED)
+                    return true;
+
+                pending.add(bindable);
+            }
+        }
+
+        return false;
     }
 
     @SuppressWarnings("unchecked")
@@ -454,4 +779,30 @@ public class Bindable<T> implements IBindable<T> {
 
         return type;
     }
+
+    @Override
+    public Scheduler getScheduler() {
+        BindableState<T> state = this.state;
+
+        return state != null ? state.scheduler : null;
+    }
+
+    @Override
+    public void setScheduler(Scheduler scheduler) {
+        if (scheduler == null && state == null) return;
+
+        state().scheduler = scheduler;
+    }
+
+    // Writes from outside the owner thread are handed to the owner scheduler and applied on its next update.
+    protected boolean isOffOwnerThread() {
+        Scheduler scheduler = getScheduler();
+
+        return scheduler != null && !scheduler.isOwnerThread();
+    }
+
+    protected void checkOwnerThread() {
+        if (isOffOwnerThread())
+            throw new IllegalStateException(String.format("%s is owned by %s and cannot be updated atomically from %s", this, getScheduler().getOwner(), Thread.currentThread()));
+    }
 }
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.bindable;
+
+import me.ashydev.binding.action.execution.Scheduler;
+import me.ashydev.binding.action.queue.ValuedActionQueue;
+import me.ashydev.binding.common.reference.CopyOnWriteWeakArray;
+import me.ashydev.binding.types.EqualityStrategy;
+import me.ashydev.binding.types.ILeaser;
+
+import java.lang.ref.WeakReference;
+
+// Everything a bindable only needs once it is listened to, bound, grouped, scheduled or changed.
+// Kept out of line so an idle bindable is just its header, value and flags.
+final class BindableState<T> {
+    volatile WeakReference<Bindable<T>> weakReference;
+
+    volatile ValuedActionQueue<T> valueChanged;
+    volatile ValuedActionQueue<ILeaser.LeaseState> leaseChanged;
+    volatile ValuedActionQueue<Boolean> disabledChanged;
+
+    volatile CopyOnWriteWeakArray<Bindable<T>> bindings;
+    volatile BindingGroup<T> group;
+
+    volatile Scheduler scheduler;
+    volatile EqualityStrategy<? super T> equality;
+    volatile long version;
+}
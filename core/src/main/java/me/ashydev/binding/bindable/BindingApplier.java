@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.bindable;
+
+import me.ashydev.binding.common.concurrent.RingBuffer;
+
+import java.util.Objects;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.ObjLongConsumer;
+
+public final class BindingApplier extends BindingScheduler implements AutoCloseable {
+    private static final Consumer<Command> APPLY = Command::apply;
+
+    private final RingBuffer<Command> buffer;
+    private final int batchSize;
+    private final Thread thread;
+    private final Runnable batch = this::applyBatch;
+
+    private volatile boolean running = true, waiting;
+    private int applied;
+
+    public BindingApplier(int capacity) {
+        this(capacity, capacity);
+    }
+
+    // The applier thread becomes the owner, so every bindable using this scheduler is written by
+    // that thread alone and writes from any other thread are published into the ring buffer.
+    public BindingApplier(int capacity, int batchSize) {
+        if (batchSize <= 0)
+            throw new IllegalArgumentException(String.format("Batch size must be positive, got %s", batchSize));
+
+        this.buffer = new RingBuffer<>(capacity, Command::new);
+        this.batchSize = batchSize;
+
+        Thread thread = new Thread(this::run, "binding-applier");
+        thread.setDaemon(true);
+
+        this.thread = thread;
+        setOwner(thread);
+
+        thread.start();
+    }
+
+    @Override
+    public void schedule(Runnable task) {
+        Objects.requireNonNull(task, "task");
+
+        long sequence = claim();
+
+        buffer.get(sequence).task = task;
+
+        publish(sequence);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T, V> void schedule(BiConsumer<? super T, ? super V> operation, T target, V value) {
+        Objects.requireNonNull(operation, "operation");
+
+        long sequence = claim();
+        Command command = buffer.get(sequence);
+
+        command.operation = (BiConsumer<Object, Object>) operation;
+        command.target = target;
+        command.value = value;
+
+        publish(sequence);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> void schedule(ObjLongConsumer<? super T> operation, T target, long value) {
+        Objects.requireNonNull(operation, "operation");
+
+        long sequence = claim();
+        Command command = buffer.get(sequence);
+
+        command.primitive = (ObjLongConsumer<Object>) operation;
+        command.target = target;
+        command.bits = value;
+
+        publish(sequence);
+    }
+
+    // Waits for a free slot, but gives up once the applier is closed rather than waiting on a
+    // consumer that has exited. The applier thread is the only consumer, so it can never wait on
+    // its own full buffer.
+    private long claim() {
+        for (int spins = 0; ; spins++) {
+            if (!running)
+                throw new IllegalStateException(String.format("%s has been closed", this));
+
+            long sequence = buffer.tryNext();
+
+            if (sequence >= 0) return sequence;
+
+            if (Thread.currentThread() == thread)
+                throw new IllegalStateException(String.format("%s is full and cannot wait from its own applier thread", this));
+
+            if (spins < 64) Thread.onSpinWait();
+            else LockSupport.parkNanos(this, 1_000);
+        }
+    }
+
+    private void publish(long sequence) {
+        buffer.publish(sequence);
+
+        if (waiting) LockSupport.unpark(thread);
+    }
+
+    @Override
+    public boolean hasPending() {
+        return !buffer.isEmpty();
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Stops accepting commands and waits until everything already published has been applied.
+    @Override
+    public void close() {
+        running = false;
+
+        LockSupport.unpark(thread);
+
+        if (Thread.currentThread() == thread) return;
+
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        while (running || !buffer.isEmpty()) {
+            try {
+                runBatch(batch);
+            } catch (Throwable throwable) {
+                applied = 1;
+
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, throwable);
+            }
+
+            if (applied != 0) continue;
+
+            waiting = true;
+
+            if (running && buffer.isEmpty()) LockSupport.park(this);
+
+            waiting = false;
+        }
+    }
+
+    // Each drained batch runs inside one binding transaction, so listeners see a single change
+    // per bindable from its value before the batch to its value after it; intermediate values
+    // written within the batch are conflated.
+    private void applyBatch() {
+        applied = buffer.drain(APPLY, batchSize);
+    }
+
+    private static final class Command {
+        private Runnable task;
+        private BiConsumer<Object, Object> operation;
+        private ObjLongConsumer<Object> primitive;
+        private Object target, value;
+        private long bits;
+
+        private void apply() {
+            try {
+                if (task != null) task.run();
+                else if (operation != null) operation.accept(target, value);
+                else primitive.accept(target, bits);
+            } finally {
+                task = null;
+                operation = null;
+                primitive = null;
+                target = value = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.bindable;
+
+import me.ashydev.binding.common.reference.CopyOnWriteWeakArray;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+final class BindingGroup<T> {
+    private static final Object TOPOLOGY_LOCK = new Object();
+    private static final ThreadLocal<BindingGroup<?>> APPLYING = new ThreadLocal<>();
+
+    private final CopyOnWriteWeakArray<Bindable<T>> members = new CopyOnWriteWeakArray<>();
+
+    private BindingGroup() {
+    }
+
+    static <T> void merge(Bindable<T> first, Bindable<T> second) {
+        synchronized (TOPOLOGY_LOCK) {
+            BindingGroup<T> firstGroup = first.group();
+            BindingGroup<T> secondGroup = second.group();
+
+            if (firstGroup != null && firstGroup == secondGroup) return;
+
+            if (firstGroup == null && secondGroup == null) {
+                BindingGroup<T> group = new BindingGroup<>();
+
+                group.join(first);
+                group.join(second);
+
+                return;
+            }
+
+            if (firstGroup == null) {
+                secondGroup.join(first);
+
+                return;
+            }
+
+            if (secondGroup == null) {
+                firstGroup.join(second);
+
+                return;
+            }
+
+            BindingGroup<T> into = firstGroup.members.size() >= secondGroup.members.size() ? firstGroup : secondGroup;
+            BindingGroup<T> from = into == firstGroup ? secondGroup : firstGroup;
+
+            for (WeakReference<Bindable<T>> reference : from.members.snapshot()) {
+                Bindable<T> member = reference.get();
+
+                if (member != null) into.join(member);
+            }
+        }
+    }
+
+    static <T> void split(Bindable<T> first, Bindable<T> second) {
+        synchronized (TOPOLOGY_LOCK) {
+            BindingGroup<T> group = first.group();
+
+            if (group == null || group != second.group()) return;
+
+            Set<Bindable<T>> component = collect(first);
+
+            if (component.contains(second)) return;
+
+            regroup(component);
+            regroup(collect(second));
+        }
+    }
+
+    private static <T> Set<Bindable<T>> collect(Bindable<T> origin) {
+        Set<Bindable<T>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        ArrayDeque<Bindable<T>> pending = new ArrayDeque<>();
+
+        visited.add(origin);
+        pending.add(origin);
+
+        while (!pending.isEmpty()) {
+            Bindable<T> current = pending.poll();
+            CopyOnWriteWeakArray<Bindable<T>> bindings = current.bindings();
+
+            if (bindings == null) continue;
+
+            for (WeakReference<Bindable<T>> reference : bindings.snapshot()) {
+                Bindable<T> neighbour = reference.get();
+
+                if (neighbour == null || !neighbour.isBound(current)) continue;
+
+                if (visited.add(neighbour)) pending.add(neighbour);
+            }
+        }
+
+        return visited;
+    }
+
+    private static <T> void regroup(Set<Bindable<T>> component) {
+        if (component.size() < 2) {
+            for (Bindable<T> member : component)
+                member.setGroup(null);
+
+            return;
+        }
+
+        BindingGroup<T> group = new BindingGroup<>();
+
+        for (Bindable<T> member : component)
+            group.join(member);
+    }
+
+    private void join(Bindable<T> member) {
+        member.setGroup(this);
+        members.addIfAbsent(member.getWeakReference());
+    }
+
+    boolean contains(Bindable<T> bindable) {
+        return bindable.group() == this;
+    }
+
+    boolean consume() {
+        if (APPLYING.get() != this) return false;
+
+        APPLYING.set(null);
+
+        return true;
+    }
+
+    // A member that cannot hold the origin's value (a clamping ranged member) becomes the origin of
+    // another pass, so the group converges on the value it settled on. Bounded by the member count so
+    // members with incompatible constraints cannot ping-pong forever.
+    void propagate(Bindable<T> origin) {
+        int rounds = members.size();
+
+        while (origin != null && rounds-- > 0)
+            origin = apply(origin);
+    }
+
+    private Bindable<T> apply(Bindable<T> origin) {
+        Bindable<T> diverged = null;
+
+        for (WeakReference<Bindable<T>> reference : members.snapshot()) {
+            Bindable<T> member = reference.get();
+
+            if (member == null || member == origin || member.group() != this) continue;
+
+            APPLYING.set(this);
+
+            try {
+                member.applyFrom(origin);
+            } finally {
+                APPLYING.set(null);
+            }
+
+            if (diverged == null && !member.accepts(origin)) diverged = member;
+        }
+
+        return diverged;
+    }
+}
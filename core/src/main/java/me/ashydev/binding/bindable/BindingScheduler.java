@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.bindable;
+
+import me.ashydev.binding.action.execution.Scheduler;
+
+public class BindingScheduler extends Scheduler {
+    public BindingScheduler() {
+        super();
+    }
+
+    public BindingScheduler(Thread owner) {
+        super(owner);
+    }
+
+    @Override
+    protected void runBatch(Runnable batch) {
+        BindingTransaction.run(batch);
+    }
+}
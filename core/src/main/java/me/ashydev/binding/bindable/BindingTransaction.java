@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.bindable;
+
+import me.ashydev.binding.action.queue.DoubleValuedActionQueue;
+import me.ashydev.binding.action.queue.FloatValuedActionQueue;
+import me.ashydev.binding.action.queue.IntValuedActionQueue;
+import me.ashydev.binding.action.queue.LongValuedActionQueue;
+import me.ashydev.binding.action.queue.ValuedActionQueue;
+import me.ashydev.binding.types.EqualityStrategy;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+public final class BindingTransaction implements AutoCloseable {
+    private static final ThreadLocal<BindingTransaction> CURRENT = new ThreadLocal<>();
+
+    private final IdentityHashMap<Object, Change> changes = new IdentityHashMap<>();
+    private final List<Change> order = new ArrayList<>();
+
+    private int depth;
+
+    private BindingTransaction() {
+    }
+
+    public static BindingTransaction begin() {
+        BindingTransaction current = CURRENT.get();
+
+        if (current == null) {
+            current = new BindingTransaction();
+            CURRENT.set(current);
+        }
+
+        current.depth++;
+
+        return current;
+    }
+
+    public static void run(Runnable scope) {
+        BindingTransaction transaction = begin();
+
+        try {
+            scope.run();
+        } finally {
+            transaction.close();
+        }
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    static BindingTransaction current() {
+        return CURRENT.get();
+    }
+
+    @Override
+    public void close() {
+        if (CURRENT.get() != this)
+            throw new IllegalStateException(String.format("Attempted to close a %s that is not active on this thread.", getClass().getSimpleName()));
+
+        if (--depth > 0) return;
+
+        CURRENT.remove();
+
+        RuntimeException failure = null;
+
+        // every net change is delivered even if an earlier listener throws; the first failure is rethrown
+        for (Change change : order) {
+            try {
+                change.fire();
+            } catch (RuntimeException e) {
+                if (failure == null) failure = e;
+                else failure.addSuppressed(e);
+            }
+        }
+
+        if (failure != null) throw failure;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> void record(ValuedActionQueue<T> queue, T old, T value, EqualityStrategy<? super T> equality) {
+        ValueChange<T> change = (ValueChange<T>) changes.get(queue);
+
+        if (change == null) track(queue, new ValueChange<>(queue, old, value, equality));
+        else change.value = value;
+    }
+
+    void record(IntValuedActionQueue queue, int old, int value) {
+        IntChange change = (IntChange) changes.get(queue);
+
+        if (change == null) track(queue, new IntChange(queue, old, value));
+        else change.value = value;
+    }
+
+    void record(LongValuedActionQueue queue, long old, long value) {
+        LongChange change = (LongChange) changes.get(queue);
+
+        if (change == null) track(queue, new LongChange(queue, old, value));
+        else change.value = value;
+    }
+
+    void record(DoubleValuedActionQueue queue, double old, double value) {
+        DoubleChange change = (DoubleChange) changes.get(queue);
+
+        if (change == null) track(queue, new DoubleChange(queue, old, value));
+        else change.value = value;
+    }
+
+    void record(FloatValuedActionQueue queue, float old, float value) {
+        FloatChange change = (FloatChange) changes.get(queue);
+
+        if (change == null) track(queue, new FloatChange(queue, old, value));
+        else change.value = value;
+    }
+
+    private void track(Object queue, Change change) {
+        changes.put(queue, change);
+        order.add(change);
+    }
+
+    private interface Change {
+        void fire();
+    }
+
+    private static final class ValueChange<T> implements Change {
+        private final ValuedActionQueue<T> queue;
+        private final EqualityStrategy<? super T> equality;
+        private final T old;
+        private T value;
+
+        private ValueChange(ValuedActionQueue<T> queue, T old, T value, EqualityStrategy<? super T> equality) {
+            this.queue = queue;
+            this.equality = equality;
+            this.old = old;
+            this.value = value;
+        }
+
+        @Override
+        public void fire() {
+            if (old == value) return;
+
+            if (equality != null) {
+                if (equality.equivalent(old, value)) return;
+            } else if (isBoxed(old) && old.equals(value)) return;
+
+            queue.execute(old, value);
+        }
+
+        private static boolean isBoxed(Object value) {
+            return value instanceof Number || value instanceof Boolean || value instanceof Character;
+        }
+    }
+
+    private static final class IntChange implements Change {
+        private final IntValuedActionQueue queue;
+        private final int old;
+        private int value;
+
+        private IntChange(IntValuedActionQueue queue, int old, int value) {
+            this.queue = queue;
+            this.old = old;
+            this.value = value;
+        }
+
+        @Override
+        public void fire() {
+            if (old != value) queue.execute(old, value);
+        }
+    }
+
+    private static final class LongChange implements Change {
+        private final LongValuedActionQueue queue;
+        private final long old;
+        private long value;
+
+        private LongChange(LongValuedActionQueue queue, long old, long value) {
+            this.queue = queue;
+            this.old = old;
+            this.value = value;
+        }
+
+        @Override
+        public void fire() {
+            if (old != value) queue.execute(old, value);
+        }
+    }
+
+    private static final class DoubleChange implements Change {
+        private final DoubleValuedActionQueue queue;
+        private final double old;
+        private double value;
+
+        private DoubleChange(DoubleValuedActionQueue queue, double old, double value) {
+            this.queue = queue;
+            this.old = old;
+            this.value = value;
+        }
+
+        @Override
+        public void fire() {
+            if (Double.doubleToLongBits(old) != Double.doubleToLongBits(value)) queue.execute(old, value);
+        }
+    }
+
+    private static final class FloatChange implements Change {
+        private final FloatValuedActionQueue queue;
+        private final float old;
+        private float value;
+
+        private FloatChange(FloatValuedActionQueue queue, float old, float value) {
+            this.queue = queue;
+            this.old = old;
+            this.value = value;
+        }
+
+        @Override
+        public void fire() {
+            if (Float.floatToIntBits(old) != Float.floatToIntBits(value)) queue.execute(old, value);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.bindable;
+
+import me.ashydev.binding.IBindable;
+import me.ashydev.binding.action.Subscription;
+import me.ashydev.binding.action.queue.ValuedActionQueue;
+import me.ashydev.binding.common.reference.CopyOnWriteWeakArray;
+
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+public class ComputedBindable<R> extends Bindable<R> {
+    private final Supplier<? extends R> compute;
+    private final Subscription[] subscriptions;
+
+    private volatile CopyOnWriteWeakArray<ComputedBindable<?>> dependents;
+    private volatile boolean dirty = true;
+
+    // Sources only reach this bindable through weak listeners, so a computed value that nobody
+    // references any more does not stay subscribed to long-lived sources. Computed sources track
+    // it as a dependent instead of a listener, so a chain stays lazy until its end is observed.
+    // Both only hold the reference; everything invalidate() reads is assigned before they do.
+    @SuppressWarnings("this-escape")
+    public ComputedBindable(Supplier<? extends R> compute, IBindable<?>... sources) {
+        this.compute = Objects.requireNonNull(compute, "compute");
+        this.subscriptions = new Subscription[sources.length];
+
+        for (int i = 0; i < sources.length; i++) {
+            if (sources[i] instanceof ComputedBindable<?> computed) subscriptions[i] = computed.depend(this);
+            else subscriptions[i] = sources[i].onValueChanged(this, (computed, event) -> computed.invalidate());
+        }
+    }
+
+    private synchronized Subscription depend(ComputedBindable<?> dependent) {
+        if (dependents == null) dependents = new CopyOnWriteWeakArray<>();
+
+        WeakReference<ComputedBindable<?>> reference = new WeakReference<>(dependent);
+
+        dependents.add(reference);
+
+        return new Dependency(dependents, reference);
+    }
+
+    // Without listeners or bindings a source change only marks the value dirty; it is recomputed
+    // on the next read instead. An observed value that recomputes to the same result leaves its
+    // dependents clean.
+    private void invalidate() {
+        dirty = true;
+
+        if (isObserved() && !refresh()) return;
+
+        CopyOnWriteWeakArray<ComputedBindable<?>> dependents = this.dependents;
+
+        if (dependents == null) return;
+
+        for (WeakReference<ComputedBindable<?>> reference : dependents.snapshot()) {
+            ComputedBindable<?> dependent = reference.get();
+
+            if (dependent == null) dependents.remove(reference);
+            else dependent.invalidate();
+        }
+    }
+
+    private boolean isObserved() {
+        ValuedActionQueue<R> valueChanged = valueChanged();
+        CopyOnWriteWeakArray<Bindable<R>> bindings = bindings();
+
+        return (valueChanged != null && !valueChanged.isEmpty()) || (bindings != null && !bindings.isEmpty());
+    }
+
+    // Recomputes under the same lock that guards listener registration, so concurrent readers and
+    // invalidations claim each dirty value once and it fires exactly one notification. Returns false
+    // only when this call recomputed an unchanged value; if another thread already claimed the
+    // recompute its result is unknown here, so dependents are still invalidated.
+    private synchronized boolean refresh() {
+        if (!dirty) return true;
+
+        dirty = false;
+
+        R next = compute.get();
+
+        if (isEqual(next, super.get())) return false;
+
+        updateValue(next, null);
+
+        return true;
+    }
+
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    @Override
+    public R get() {
+        if (dirty) refresh();
+
+        return super.get();
+    }
+
+    @Override
+    public synchronized ValuedActionQueue<R> getValueChanged() {
+        ValuedActionQueue<R> valueChanged = super.getValueChanged();
+
+        if (dirty) refresh();
+
+        return valueChanged;
+    }
+
+    @Override
+    public void set(R value) {
+        throw new IllegalStateException(String.format("Cannot set the value of a %s, it is computed from its sources.", getClass().getSimpleName()));
+    }
+
+    @Override
+    public boolean compareAndSet(R expected, R next) {
+        throw new IllegalStateException(String.format("Cannot set the value of a %s, it is computed from its sources.", getClass().getSimpleName()));
+    }
+
+    @Override
+    public Bindable<R> bindTo(IBindable<R> other) {
+        throw new IllegalStateException(String.format("Cannot bind a %s to %s, it is computed from its sources.", getClass().getSimpleName(), other.getClass().getSimpleName()));
+    }
+
+    @Override
+    public IBindable<R> weakBind(IBindable<R> other) {
+        throw new IllegalStateException(String.format("Cannot bind a %s to %s, it is computed from its sources.", getClass().getSimpleName(), other.getClass().getSimpleName()));
+    }
+
+    @Override
+    public LeasedBindable<R> begin(boolean revertValueOnReturn) {
+        throw new IllegalStateException(String.format("Cannot lease a %s, it is computed from its sources.", getClass().getSimpleName()));
+    }
+
+    // Copies follow the computed value one way; a two-way binding would let them write into it.
+    @Override
+    public Bindable<R> createInstance() {
+        return new Bindable<>();
+    }
+
+    @Override
+    public Bindable<R> copy() {
+        return getBoundCopy();
+    }
+
+    @Override
+    public Bindable<R> getBoundCopy() {
+        Bindable<R> copy = createInstance();
+
+        copy.weakBind(this);
+
+        return copy;
+    }
+
+    @Override
+    public Bindable<R> getUnboundCopy() {
+        Bindable<R> copy = createInstance();
+
+        copyTo(copy);
+
+        return copy;
+    }
+
+    @Override
+    public Bindable<R> getWeakCopy() {
+        return getBoundCopy();
+    }
+
+    @Override
+    public void unbind() {
+        super.unbind();
+
+        for (Subscription subscription : subscriptions) subscription.unsubscribe();
+    }
+
+    private record Dependency(CopyOnWriteWeakArray<ComputedBindable<?>> dependents, WeakReference<ComputedBindable<?>> reference) implements Subscription {
+        @Override
+        public void unsubscribe() {
+            dependents.remove(reference);
+        }
+
+        @Override
+        public boolean isSubscribed() {
+            return dependents.contains(reference);
+        }
+    }
+}
@@ -8,6 +8,7 @@
 package me.ashydev.binding.bindable;
 
 import me.ashydev.binding.ILeasedBindable;
+import me.ashydev.binding.types.EqualityStrategy;
 
 public class LeasedBindable<T> extends Bindable<T> implements ILeasedBindable<T> {
     private final Bindable<T> source;
@@ -17,7 +18,11 @@ public class LeasedBindable<T> extends Bindable<T> implements ILeasedBindable<T>
     private final boolean revertValueOnReturn;
     private boolean hasBeenReturned = false;
 
+    // Leases compare by equals unless the source brings its own strategy, so an equal boxed value
+    // written through the lease does not re-notify the source's listeners.
     public LeasedBindable(Bindable<T> source, boolean revertValueOnReturn) {
+        super(null, EqualityStrategy.equality());
+
         bindTo(source);
 
         if (source == null)
@@ -35,7 +40,7 @@ public class LeasedBindable<T> extends Bindable<T> implements ILeasedBindable<T>
     }
 
     private LeasedBindable(T value) {
-        super(value);
+        super(value, EqualityStrategy.equality());
 
         source = null;
         valueBeforeLease = null;
@@ -44,7 +49,7 @@ public class LeasedBindable<T> extends Bindable<T> implements ILeasedBindable<T>
     }
 
     private LeasedBindable() {
-        super();
+        super(null, EqualityStrategy.equality());
 
         source = null;
         valueBeforeLease = null;
@@ -77,11 +82,19 @@ public class LeasedBindable<T> extends Bindable<T> implements ILeasedBindable<T>
         if (source != null)
             checkValid();
 
-        if (this.value != null && this.value.equals(value)) return;
+        if (isEqual(value, this.value)) return;
 
         updateValue(value, null);
     }
 
+    @Override
+    public boolean compareAndSet(T expected, T next) {
+        if (source != null)
+            checkValid();
+
+        return super.compareAndSet(expected, next);
+    }
+
     @Override
     public void unbind() {
         if (source != null && !hasBeenReturned) {
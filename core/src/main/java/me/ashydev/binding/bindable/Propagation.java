@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.bindable;
+
+import me.ashydev.binding.action.Action;
+import me.ashydev.binding.action.queue.ActionQueue;
+import me.ashydev.binding.action.queue.DoubleValuedActionQueue;
+import me.ashydev.binding.action.queue.FloatValuedActionQueue;
+import me.ashydev.binding.action.queue.IntValuedActionQueue;
+import me.ashydev.binding.action.queue.LongValuedActionQueue;
+import me.ashydev.binding.action.queue.ValuedActionQueue;
+import me.ashydev.binding.types.EqualityStrategy;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+public final class Propagation {
+    private static final ThreadLocal<Propagation> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<Propagation> IDLE = new ThreadLocal<>();
+
+    private static final Object NULL = new Object();
+    private static final Object PRIMITIVE = new Object();
+
+    private final ArrayDeque<Object> pending = new ArrayDeque<>();
+    private final ArrayDeque<Object> notifications = new ArrayDeque<>();
+
+    // deferred primitive old/new pairs as raw bits, popped in lockstep with their PRIMITIVE markers
+    private long[] primitives = new long[16];
+    private int primitiveCount;
+
+    private Propagation() {
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    private static Propagation acquire() {
+        Propagation propagation = IDLE.get();
+
+        if (propagation == null) return new Propagation();
+
+        IDLE.set(null);
+
+        return propagation;
+    }
+
+    private static void release(Propagation propagation) {
+        propagation.pending.clear();
+        propagation.notifications.clear();
+        propagation.primitiveCount = 0;
+
+        IDLE.set(propagation);
+    }
+
+    public static <T> void forward(Action<T> step, T target) {
+        Propagation current = CURRENT.get();
+
+        if (current != null) {
+            current.pending.add(step);
+            current.pending.add(target);
+
+            return;
+        }
+
+        current = acquire();
+        CURRENT.set(current);
+
+        try {
+            step.accept(target);
+
+            current.drain();
+        } finally {
+            CURRENT.set(null);
+            release(current);
+        }
+    }
+
+    public static <T, S> void forward(BiConsumer<? super T, ? super S> step, T target, S source) {
+        Propagation current = CURRENT.get();
+
+        if (current != null) {
+            current.pending.add(step);
+            current.pending.add(target);
+            current.pending.add(source);
+
+            return;
+        }
+
+        current = acquire();
+        CURRENT.set(current);
+
+        try {
+            step.accept(target, source);
+
+            current.drain();
+        } finally {
+            CURRENT.set(null);
+            release(current);
+        }
+    }
+
+    public static void notify(Runnable notification) {
+        Propagation current = CURRENT.get();
+
+        if (current == null) notification.run();
+        else current.defer(notification, NULL, NULL);
+    }
+
+    public static <T> void execute(ValuedActionQueue<T> queue, T old, T value) {
+        execute(queue, old, value, null);
+    }
+
+    public static <T> void execute(ValuedActionQueue<T> queue, T old, T value, EqualityStrategy<? super T> equality) {
+        BindingTransaction transaction = BindingTransaction.current();
+
+        if (transaction != null) {
+            transaction.record(queue, old, value, equality);
+
+            return;
+        }
+
+        Propagation current = CURRENT.get();
+
+        if (current != null) current.defer(queue, old, value);
+        else queue.execute(old, value);
+    }
+
+    public static <E> void execute(ActionQueue<E> queue, E event) {
+        Propagation current = CURRENT.get();
+
+        if (current != null) current.defer(queue, event, NULL);
+        else queue.execute(event);
+    }
+
+    public static void execute(IntValuedActionQueue queue, int old, int value) {
+        BindingTransaction transaction = BindingTransaction.current();
+
+        if (transaction != null) {
+            transaction.record(queue, old, value);
+
+            return;
+        }
+
+        Propagation current = CURRENT.get();
+
+        if (current != null) current.defer(queue, old, value);
+        else queue.execute(old, value);
+    }
+
+    public static void execute(LongValuedActionQueue queue, long old, long value) {
+        BindingTransaction transaction = BindingTransaction.current();
+
+        if (transaction != null) {
+            transaction.record(queue, old, value);
+
+            return;
+        }
+
+        Propagation current = CURRENT.get();
+
+        if (current != null) current.defer(queue, old, value);
+        else queue.execute(old, value);
+    }
+
+    public static void execute(DoubleValuedActionQueue queue, double old, double value) {
+        BindingTransaction transaction = BindingTransaction.current();
+
+        if (transaction != null) {
+            transaction.record(queue, old, value);
+
+            return;
+        }
+
+        Propagation current = CURRENT.get();
+
+        if (current != null) current.defer(queue, Double.doubleToRawLongBits(old), Double.doubleToRawLongBits(value));
+        else queue.execute(old, value);
+    }
+
+    public static void execute(FloatValuedActionQueue queue, float old, float value) {
+        BindingTransaction transaction = BindingTransaction.current();
+
+        if (transaction != null) {
+            transaction.record(queue, old, value);
+
+            return;
+        }
+
+        Propagation current = CURRENT.get();
+
+        if (current != null) current.defer(queue, Float.floatToRawIntBits(old), Float.floatToRawIntBits(value));
+        else queue.execute(old, value);
+    }
+
+    private void defer(Object target, Object first, Object second) {
+        notifications.push(second != null ? second : NULL);
+        notifications.push(first != null ? first : NULL);
+        notifications.push(target);
+    }
+
+    private void defer(Object target, long old, long value) {
+        if (primitiveCount + 2 > primitives.length) primitives = Arrays.copyOf(primitives, primitives.length << 1);
+
+        primitives[primitiveCount++] = old;
+        primitives[primitiveCount++] = value;
+
+        notifications.push(PRIMITIVE);
+        notifications.push(PRIMITIVE);
+        notifications.push(target);
+    }
+
+    private static Object unwrap(Object value) {
+        return value == NULL ? null : value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void drain() {
+        while (true) {
+            Object step = pending.poll();
+
+            if (step instanceof Action) {
+                ((Action<Object>) step).accept(pending.poll());
+
+                continue;
+            }
+
+            if (step != null) {
+                ((BiConsumer<Object, Object>) step).accept(pending.poll(), pending.poll());
+
+                continue;
+            }
+
+            Object target = notifications.poll();
+
+            if (target == null) return;
+
+            Object first = notifications.poll(), second = notifications.poll();
+
+            CURRENT.set(null);
+
+            try {
+                if (first == PRIMITIVE) {
+                    long value = primitives[--primitiveCount], old = primitives[--primitiveCount];
+
+                    dispatch(target, old, value);
+                } else dispatch(target, unwrap(first), unwrap(second));
+            } finally {
+                CURRENT.set(this);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void dispatch(Object target, Object first, Object second) {
+        if (target instanceof ValuedActionQueue<?> queue) ((ValuedActionQueue<Object>) queue).execute(first, second);
+        else if (target instanceof ActionQueue<?> queue) ((ActionQueue<Object>) queue).execute(first);
+        else ((Runnable) target).run();
+    }
+
+    private static void dispatch(Object target, long old, long value) {
+        if (target instanceof IntValuedActionQueue queue) queue.execute((int) old, (int) value);
+        else if (target instanceof LongValuedActionQueue queue) queue.execute(old, value);
+        else if (target instanceof DoubleValuedActionQueue queue)
+            queue.execute(Double.longBitsToDouble(old), Double.longBitsToDouble(value));
+        else ((FloatValuedActionQueue) target).execute(Float.intBitsToFloat((int) old), Float.intBitsToFloat((int) value));
+    }
+}
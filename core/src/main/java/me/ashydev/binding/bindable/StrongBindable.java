@@ -8,13 +8,22 @@
 package me.ashydev.binding.bindable;
 
 import me.ashydev.binding.IBindable;
+import me.ashydev.binding.action.Subscription;
 import me.ashydev.binding.action.ValuedAction;
-import me.ashydev.binding.action.event.ValueChangedEvent;
 import me.ashydev.binding.action.queue.ValuedActionQueue;
+import me.ashydev.binding.types.EqualityStrategy;
 import me.ashydev.binding.types.IHasDefault;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
 public class StrongBindable<T> extends Bindable<T> implements IHasDefault<T> {
-    protected transient final ValuedActionQueue<T> defaultChanged = new ValuedActionQueue<>();
+    private static final BiConsumer<Bindable<?>, Bindable<?>> DEFAULT = StrongBindable::propagateDefault;
+
+    protected transient volatile ValuedActionQueue<T> defaultChanged;
     protected T defaultValue;
 
     public StrongBindable() {
@@ -27,6 +36,12 @@ public class StrongBindable<T> extends Bindable<T> implements IHasDefault<T> {
         this.defaultValue = value;
     }
 
+    protected StrongBindable(T defaultValue, EqualityStrategy<? super T> equality) {
+        super(defaultValue, equality);
+
+        this.defaultValue = value;
+    }
+
     public StrongBindable(T value, T defaultValue) {
         super(value);
 
@@ -49,7 +64,9 @@ public class StrongBindable<T> extends Bindable<T> implements IHasDefault<T> {
     }
 
     @Override
-    public ValuedActionQueue<T> getDefaultChanged() {
+    public synchronized ValuedActionQueue<T> getDefaultChanged() {
+        if (defaultChanged == null) defaultChanged = new ValuedActionQueue<>();
+
         return defaultChanged;
     }
 
@@ -60,7 +77,7 @@ public class StrongBindable<T> extends Bindable<T> implements IHasDefault<T> {
 
     @Override
     public void setDefaultValue(T defaultValue) {
-        if (defaultValue == this.defaultValue) return;
+        if (Objects.equals(defaultValue, this.defaultValue)) return;
 
         updateDefaultValue(defaultValue, false, null);
     }
@@ -72,6 +89,41 @@ public class StrongBindable<T> extends Bindable<T> implements IHasDefault<T> {
         triggerDefaultChanged(oldValue, value, bypassChecks, true, source);
     }
 
+    // Bindings can form cycles, so an unchanged default stops the cascade. A bypassing cascade
+    // re-notifies unchanged defaults and instead carries the instances it has already visited.
+    @SuppressWarnings("unchecked")
+    private static void propagateDefault(Bindable<?> target, Bindable<?> origin) {
+        if (!(target instanceof StrongBindable<?>)) return;
+
+        StrongBindable<Object> from = (StrongBindable<Object>) origin, to = (StrongBindable<Object>) target;
+
+        if (Objects.equals(to.defaultValue, from.defaultValue)) return;
+
+        to.updateDefaultValue(from.defaultValue, false, from);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void propagateDefault(Bindable<?> target, Bindable<?> origin, Set<Bindable<?>> visited) {
+        if (!(target instanceof StrongBindable<?>) || !visited.add(target)) return;
+
+        StrongBindable<Object> from = (StrongBindable<Object>) origin, to = (StrongBindable<Object>) target;
+
+        to.updateDefaultValue(from.defaultValue, visited, from);
+    }
+
+    private void updateDefaultValue(T value, Set<Bindable<?>> visited, StrongBindable<T> source) {
+        T oldValue = this.defaultValue;
+        this.defaultValue = value;
+
+        if (oldValue != value) incrementVersion();
+
+        forward((target, origin) -> propagateDefault(target, origin, visited), source);
+
+        ValuedActionQueue<T> defaultChanged = this.defaultChanged;
+
+        if (defaultChanged != null) Propagation.execute(defaultChanged, oldValue, value);
+    }
+
     protected void triggerDefaultChanged(
             T beforePropagation,
             T value,
@@ -79,25 +131,33 @@ public class StrongBindable<T> extends Bindable<T> implements IHasDefault<T> {
             boolean propagateToBindings,
             StrongBindable<T> source
     ) {
-        if (propagateToBindings || bypassChecks) {
-            propagate(
-                    (binding) -> binding instanceof StrongBindable<T>,
-                    (binding) -> ((StrongBindable<T>) binding).updateDefaultValue(value, bypassChecks, source),
-                    source
-            );
+        if (beforePropagation != value) incrementVersion();
+
+        if (bypassChecks) {
+            Set<Bindable<?>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+            visited.add(this);
+
+            forward((target, origin) -> propagateDefault(target, origin, visited), source);
+        } else if (propagateToBindings) {
+            forward(DEFAULT, source);
         }
 
-        if (beforePropagation != value)
-            defaultChanged.execute(new ValueChangedEvent<>(beforePropagation, value));
+        ValuedActionQueue<T> defaultChanged = this.defaultChanged;
+
+        if (defaultChanged != null && beforePropagation != value)
+            Propagation.execute(defaultChanged, beforePropagation, value);
     }
 
     @Override
-    public void onDefaultChanged(ValuedAction<T> action, boolean runOnceImmediately) {
-        defaultChanged.add(action);
+    public Subscription onDefaultChanged(ValuedAction<T> action, boolean runOnceImmediately) {
+        Subscription subscription = getDefaultChanged().subscribe(action);
 
         if (runOnceImmediately) {
-            action.accept(new ValueChangedEvent<>(defaultValue, defaultValue));
+            action.accept(defaultValue, defaultValue);
         }
+
+        return subscription;
     }
 
     @Override
@@ -10,32 +10,59 @@ package me.ashydev.binding.bindable.list;
 import me.ashydev.binding.IBindableList;
 import me.ashydev.binding.IUnbindable;
 import me.ashydev.binding.action.Action;
+import me.ashydev.binding.action.Subscription;
 import me.ashydev.binding.action.ValuedAction;
-import me.ashydev.binding.action.event.ValueChangedEvent;
+import me.ashydev.binding.action.execution.Scheduler;
 import me.ashydev.binding.action.queue.ActionQueue;
 import me.ashydev.binding.action.queue.ValuedActionQueue;
 import me.ashydev.binding.bindable.Bindable;
-import me.ashydev.binding.common.reference.LockedWeakList;
+import me.ashydev.binding.bindable.Propagation;
+import me.ashydev.binding.common.reference.CopyOnWriteWeakArray;
+import me.ashydev.binding.common.reference.TrackedWeakReference;
 import me.ashydev.binding.event.collection.CollectionEvent;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.lang.ref.WeakReference;
 import java.util.*;
+import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 
 public class BindableList<T> implements IBindableList<T> {
+    private static final VarHandle VERSION;
+    private static final BiConsumer<BindableList<?>, Object> SCHEDULED_ADD = (target, element) -> list(target).add(element);
+    private static final BiConsumer<BindableList<?>, Object> SCHEDULED_ADD_FIRST = (target, element) -> list(target).addFirst(element);
+    private static final BiConsumer<BindableList<?>, Object> SCHEDULED_ADD_LAST = (target, element) -> list(target).addLast(element);
+    private static final BiConsumer<BindableList<?>, Boolean> SCHEDULED_DISABLED = BindableList::setDisabled;
+
+    static {
+        try {
+            VERSION = MethodHandles.lookup().findVarHandle(BindableList.class, "version", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BindableList<Object> list(BindableList<?> list) {
+        return (BindableList<Object>) list;
+    }
+
     protected static <V> V source(V source, V self) {
         return source != null ? source : self;
     }
 
-    private transient final WeakReference<BindableList<T>> weakReference = new WeakReference<>(this);
+    private transient final WeakReference<BindableList<T>> weakReference = new TrackedWeakReference<>(this);
 
     private transient final ActionQueue<CollectionEvent<T>> collectionChanged = new ActionQueue<>();
     private transient final ValuedActionQueue<Boolean> disabledChanged = new ValuedActionQueue<>();
 
-    private transient final LockedWeakList<BindableList<T>> bindings = new LockedWeakList<>();
+    private transient final CopyOnWriteWeakArray<BindableList<T>> bindings = new CopyOnWriteWeakArray<>();
     private final List<T> collection = new ArrayList<>();
+    private transient volatile Scheduler scheduler;
     private transient boolean disabled;
+    private transient long version;
 
     public BindableList(Collection<T> items) {
         if (items != null)
@@ -49,28 +76,24 @@ public class BindableList<T> implements IBindableList<T> {
     }
 
     protected void propagate(Action<BindableList<T>> propagation, BindableList<T> source) {
-        Iterator<WeakReference<BindableList<T>>> iterator = bindings.iterator();
-
-        while (iterator.hasNext()) {
-            WeakReference<BindableList<T>> binding = iterator.next();
-
+        for (WeakReference<BindableList<T>> binding : bindings.snapshot()) {
             if (binding.refersTo(source)) continue;
 
             BindableList<T> bindable = binding.get();
 
             if (bindable == null) {
-                iterator.remove();
+                bindings.remove(binding);
 
                 continue;
             }
 
-            propagation.accept(bindable);
+            Propagation.forward(propagation, bindable);
         }
     }
 
     @Override
-    public void onCollectionChanged(Action<CollectionEvent<T>> action, boolean runOnceImmediately) {
-        collectionChanged.add(action);
+    public Subscription onCollectionChanged(Action<CollectionEvent<T>> action, boolean runOnceImmediately) {
+        Subscription subscription = collectionChanged.subscribe(action);
 
         if (runOnceImmediately) {
             action.accept(
@@ -82,6 +105,8 @@ public class BindableList<T> implements IBindableList<T> {
                     )
             );
         }
+
+        return subscription;
     }
 
     @Override
@@ -91,6 +116,8 @@ public class BindableList<T> implements IBindableList<T> {
 
     @Override
     public T set(int index, T element) {
+        checkOwnerThread();
+
         return set(index, element, new HashSet<>());
     }
 
@@ -101,9 +128,11 @@ public class BindableList<T> implements IBindableList<T> {
 
         T previous = collection.set(index, element);
 
+        incrementVersion();
+
         propagate((BindableList<T> bindable) -> bindable.set(index, element, appliedInstances), this);
 
-        collectionChanged.execute(
+        Propagation.execute(collectionChanged,
                 new CollectionEvent<>(CollectionEvent.Type.REPLACE,
                         Collections.singletonList(
                                 new CollectionEvent.Element<>(element, index)
@@ -119,6 +148,12 @@ public class BindableList<T> implements IBindableList<T> {
 
     @Override
     public boolean add(T element) {
+        if (isOffOwnerThread()) {
+            scheduler.schedule(SCHEDULED_ADD, this, element);
+
+            return true;
+        }
+
         return add(element, new HashSet<>());
     }
 
@@ -129,9 +164,11 @@ public class BindableList<T> implements IBindableList<T> {
 
         collection.add(element);
 
+        incrementVersion();
+
         propagate((BindableList<T> bindable) -> bindable.add(element, appliedInstances), this);
 
-        collectionChanged.execute(
+        Propagation.execute(collectionChanged,
                 new CollectionEvent<>(CollectionEvent.Type.ADD,
                         Collections.singletonList(
                                 new CollectionEvent.Element<>(element, collection.size() - 1)
@@ -145,6 +182,12 @@ public class BindableList<T> implements IBindableList<T> {
 
     @Override
     public void clear() {
+        if (isOffOwnerThread()) {
+            scheduler.schedule(() -> clear());
+
+            return;
+        }
+
         clear(new HashSet<>());
     }
 
@@ -157,9 +200,11 @@ public class BindableList<T> implements IBindableList<T> {
 
         collection.clear();
 
+        incrementVersion();
+
         propagate((BindableList<T> bindable) -> bindable.clear(appliedInstances), this);
 
-        collectionChanged.execute(
+        Propagation.execute(collectionChanged,
                 new CollectionEvent<>(CollectionEvent.Type.REMOVE,
                         Collections.emptyList(),
                         oldCollection.stream()
@@ -171,6 +216,8 @@ public class BindableList<T> implements IBindableList<T> {
 
     @Override
     public boolean remove(Object o) {
+        checkOwnerThread();
+
         return remove(o, new HashSet<>());
     }
 
@@ -187,9 +234,11 @@ public class BindableList<T> implements IBindableList<T> {
 
         T removed = collection.remove(index);
 
+        incrementVersion();
+
         propagate((BindableList<T> bindable) -> bindable.remove(o, appliedInstances), this);
 
-        collectionChanged.execute(
+        Propagation.execute(collectionChanged,
                 new CollectionEvent<>(CollectionEvent.Type.REMOVE,
                         Collections.emptyList(),
                         Collections.singletonList(
@@ -228,6 +277,12 @@ public class BindableList<T> implements IBindableList<T> {
 
     @Override
     public boolean addAll(Collection<? extends T> c) {
+        if (isOffOwnerThread()) {
+            scheduler.schedule(() -> addAll(c));
+
+            return !c.isEmpty();
+        }
+
         return addAll(c, new HashSet<>());
     }
 
@@ -238,9 +293,11 @@ public class BindableList<T> implements IBindableList<T> {
 
         boolean changed = collection.addAll(c);
 
+        if (changed) incrementVersion();
+
         propagate((BindableList<T> bindable) -> bindable.addAll(c, appliedInstances), this);
 
-        collectionChanged.execute(
+        Propagation.execute(collectionChanged,
                 new CollectionEvent<>(CollectionEvent.Type.ADD,
                         c.stream()
                                 .map(e -> new CollectionEvent.Element<T>(e, collection.indexOf(e)))
@@ -254,6 +311,12 @@ public class BindableList<T> implements IBindableList<T> {
 
     @Override
     public boolean addAll(int index, Collection<? extends T> c) {
+        if (isOffOwnerThread()) {
+            scheduler.schedule(() -> addAll(index, c));
+
+            return !c.isEmpty();
+        }
+
         return addAll(index, c, new HashSet<>());
     }
 
@@ -264,9 +327,11 @@ public class BindableList<T> implements IBindableList<T> {
 
         boolean changed = collection.addAll(index, c);
 
+        if (changed) incrementVersion();
+
         propagate((BindableList<T> bindable) -> bindable.addAll(index, c, appliedInstances), this);
 
-        collectionChanged.execute(
+        Propagation.execute(collectionChanged,
                 new CollectionEvent<>(CollectionEvent.Type.ADD,
                         c.stream()
                                 .map(e -> new CollectionEvent.Element<T>(e, collection.indexOf(e)))
@@ -280,6 +345,8 @@ public class BindableList<T> implements IBindableList<T> {
 
     @Override
     public boolean removeAll(Collection<?> c) {
+        checkOwnerThread();
+
         return removeAll(c, new HashSet<>());
     }
 
@@ -291,9 +358,11 @@ public class BindableList<T> implements IBindableList<T> {
 
         boolean changed = collection.removeAll(c);
 
+        if (changed) incrementVersion();
+
         propagate((BindableList<T> bindable) -> bindable.removeAll(c, appliedInstances), this);
 
-        collectionChanged.execute(
+        Propagation.execute(collectionChanged,
                 new CollectionEvent<>(CollectionEvent.Type.REMOVE,
                         Collections.emptyList(),
                         c.stream()
@@ -307,6 +376,8 @@ public class BindableList<T> implements IBindableList<T> {
 
     @Override
     public boolean retainAll(Collection<?> c) {
+        checkOwnerThread();
+
         return retainAll(c, new HashSet<>());
     }
 
@@ -320,9 +391,11 @@ public class BindableList<T> implements IBindableList<T> {
 
         boolean changed = collection.retainAll(c);
 
+        if (changed) incrementVersion();
+
         propagate((BindableList<T> bindable) -> bindable.retainAll(c, appliedInstances), this);
 
-        collectionChanged.execute(
+        Propagation.execute(collectionChanged,
                 new CollectionEvent<>(CollectionEvent.Type.REMOVE,
                         Collections.emptyList(),
                         removed.stream()
@@ -341,6 +414,12 @@ public class BindableList<T> implements IBindableList<T> {
 
     @Override
     public void add(int index, T element) {
+        if (isOffOwnerThread()) {
+            scheduler.schedule(() -> add(index, element));
+
+            return;
+        }
+
         add(index, element, new HashSet<>());
     }
 
@@ -351,9 +430,11 @@ public class BindableList<T> implements IBindableList<T> {
 
         collection.add(index, element);
 
+        incrementVersion();
+
         propagate((BindableList<T> bindable) -> bindable.add(index, element, appliedInstances), this);
 
-        collectionChanged.execute(
+        Propagation.execute(collectionChanged,
                 new CollectionEvent<>(CollectionEvent.Type.ADD,
                         Collections.singletonList(
                                 new CollectionEvent.Element<>(element, index)
@@ -365,6 +446,8 @@ public class BindableList<T> implements IBindableList<T> {
 
     @Override
     public T remove(int index) {
+        checkOwnerThread();
+
         return remove(index, new HashSet<>());
     }
 
@@ -375,9 +458,11 @@ public class BindableList<T> implements IBindableList<T> {
 
         T removed = collection.remove(index);
 
+        incrementVersion();
+
         propagate((BindableList<T> bindable) -> bindable.remove(index, appliedInstances), this);
 
-        collectionChanged.execute(
+        Propagation.execute(collectionChanged,
                 new CollectionEvent<>(CollectionEvent.Type.REMOVE,
                         Collections.emptyList(),
                         Collections.singletonList(
@@ -416,6 +501,12 @@ public class BindableList<T> implements IBindableList<T> {
 
     @Override
     public void replaceAll(UnaryOperator<T> operator) {
+        if (isOffOwnerThread()) {
+            scheduler.schedule(() -> replaceAll(operator));
+
+            return;
+        }
+
         replaceAll(operator, new HashSet<>());
     }
 
@@ -426,9 +517,11 @@ public class BindableList<T> implements IBindableList<T> {
 
         collection.replaceAll(operator);
 
+        incrementVersion();
+
         propagate((BindableList<T> bindable) -> bindable.replaceAll(operator, appliedInstances), this);
 
-        collectionChanged.execute(
+        Propagation.execute(collectionChanged,
                 new CollectionEvent<>(CollectionEvent.Type.REPLACE,
                         collection.stream()
                                 .map(e -> new CollectionEvent.Element<>(e, collection.indexOf(e)))
@@ -442,6 +535,12 @@ public class BindableList<T> implements IBindableList<T> {
 
     @Override
     public void sort(Comparator<? super T> c) {
+        if (isOffOwnerThread()) {
+            scheduler.schedule(() -> sort(c));
+
+            return;
+        }
+
         sort(c, new HashSet<>());
     }
 
@@ -452,9 +551,11 @@ public class BindableList<T> implements IBindableList<T> {
 
         collection.sort(c);
 
+        incrementVersion();
+
         propagate((BindableList<T> bindable) -> bindable.sort(c, appliedInstances), this);
 
-        collectionChanged.execute(
+        Propagation.execute(collectionChanged,
                 new CollectionEvent<>(CollectionEvent.Type.REPLACE,
                         collection.stream()
                                 .map(e -> new CollectionEvent.Element<>(e, collection.indexOf(e)))
@@ -473,6 +574,12 @@ public class BindableList<T> implements IBindableList<T> {
 
     @Override
     public void addFirst(T t) {
+        if (isOffOwnerThread()) {
+            scheduler.schedule(SCHEDULED_ADD_FIRST, this, t);
+
+            return;
+        }
+
         addFirst(t, new HashSet<>());
     }
 
@@ -483,9 +590,11 @@ public class BindableList<T> implements IBindableList<T> {
 
         collection.addFirst(t);
 
+        incrementVersion();
+
         propagate((BindableList<T> bindable) -> bindable.addFirst(t, appliedInstances), this);
 
-        collectionChanged.execute(
+        Propagation.execute(collectionChanged,
                 new CollectionEvent<>(CollectionEvent.Type.ADD,
                         Collections.singletonList(
                                 new CollectionEvent.Element<>(t, 0)
@@ -497,6 +606,12 @@ public class BindableList<T> implements IBindableList<T> {
 
     @Override
     public void addLast(T t) {
+        if (isOffOwnerThread()) {
+            scheduler.schedule(SCHEDULED_ADD_LAST, this, t);
+
+            return;
+        }
+
         addLast(t, new HashSet<>());
     }
 
@@ -507,9 +622,11 @@ public class BindableList<T> implements IBindableList<T> {
 
         collection.add(t);
 
+        incrementVersion();
+
         propagate((BindableList<T> bindable) -> bindable.addLast(t, appliedInstances), this);
 
-        collectionChanged.execute(
+        Propagation.execute(collectionChanged,
                 new CollectionEvent<>(CollectionEvent.Type.ADD,
                         Collections.singletonList(
                                 new CollectionEvent.Element<>(t, collection.size() - 1)
@@ -532,6 +649,8 @@ public class BindableList<T> implements IBindableList<T> {
 
     @Override
     public T removeFirst() {
+        checkOwnerThread();
+
         return removeFirst(new HashSet<>());
     }
 
@@ -542,9 +661,11 @@ public class BindableList<T> implements IBindableList<T> {
 
         T removed = collection.removeFirst();
 
+        incrementVersion();
+
         propagate((BindableList<T> bindable) -> bindable.removeFirst(appliedInstances), this);
 
-        collectionChanged.execute(
+        Propagation.execute(collectionChanged,
                 new CollectionEvent<>(CollectionEvent.Type.REMOVE,
                         Collections.emptyList(),
                         Collections.singletonList(
@@ -558,6 +679,8 @@ public class BindableList<T> implements IBindableList<T> {
 
     @Override
     public T removeLast() {
+        checkOwnerThread();
+
         return removeLast(new HashSet<>());
     }
 
@@ -568,9 +691,11 @@ public class BindableList<T> implements IBindableList<T> {
 
         T removed = collection.removeLast();
 
+        incrementVersion();
+
         propagate((BindableList<T> bindable) -> bindable.removeLast(appliedInstances), this);
 
-        collectionChanged.execute(
+        Propagation.execute(collectionChanged,
                 new CollectionEvent<>(CollectionEvent.Type.REMOVE,
                         Collections.emptyList(),
                         Collections.singletonList(
@@ -597,6 +722,36 @@ public class BindableList<T> implements IBindableList<T> {
         return collection.size();
     }
 
+    @Override
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    @Override
+    public void setScheduler(Scheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    private boolean isOffOwnerThread() {
+        Scheduler scheduler = this.scheduler;
+
+        return scheduler != null && !scheduler.isOwnerThread();
+    }
+
+    private void checkOwnerThread() {
+        if (isOffOwnerThread())
+            throw new IllegalStateException(String.format("%s is owned by %s and its state dependent mutations cannot be made from %s", getClass().getSimpleName(), scheduler.getOwner(), Thread.currentThread()));
+    }
+
+    @Override
+    public long version() {
+        return (long) VERSION.getAcquire(this);
+    }
+
+    protected void incrementVersion() {
+        VERSION.getAndAdd(this, 1L);
+    }
+
     @Override
     public BindableList<T> createInstance() {
         return new BindableList<>();
@@ -651,12 +806,14 @@ public class BindableList<T> implements IBindableList<T> {
             boolean propagateToBindings,
             BindableList<T> source
     ) {
+        if (beforePropagation != value) incrementVersion();
+
         if (propagateToBindings || bypassChecks) {
             propagate((BindableList<T> bindable) -> bindable.setDisabled(value, bypassChecks, source), source);
         }
 
         if (beforePropagation != value || bypassChecks) {
-            disabledChanged.execute(new ValueChangedEvent<>(beforePropagation, value));
+            Propagation.execute(disabledChanged, beforePropagation, value);
         }
     }
 
@@ -668,18 +825,26 @@ public class BindableList<T> implements IBindableList<T> {
 
     @Override
     public void setDisabled(boolean disabled) {
+        if (isOffOwnerThread()) {
+            scheduler.schedule(SCHEDULED_DISABLED, this, disabled);
+
+            return;
+        }
+
         if (disabled == this.disabled) return;
 
         setDisabled(disabled, false, null);
     }
 
     @Override
-    public void onDisabledChanged(ValuedAction<Boolean> action, boolean runOnceImmediately) {
-        disabledChanged.add(action);
+    public Subscription onDisabledChanged(ValuedAction<Boolean> action, boolean runOnceImmediately) {
+        Subscription subscription = disabledChanged.subscribe(action);
 
         if (runOnceImmediately) {
-            action.accept(new ValueChangedEvent<>(disabled, disabled));
+            action.accept(disabled, disabled);
         }
+
+        return subscription;
     }
 
     @Override
@@ -695,6 +860,8 @@ public class BindableList<T> implements IBindableList<T> {
     public BindableList<T> copyTo(IBindableList<T> other) {
         if (!(other instanceof BindableList<T> copy)) return null;
 
+        if (copy.scheduler == null) copy.scheduler = scheduler;
+
         copy.collection.clear();
         copy.collection.addAll(collection);
 
@@ -725,14 +892,12 @@ public class BindableList<T> implements IBindableList<T> {
         if (bindings.contains(bindable.weakReference))
             throw new IllegalArgumentException(String.format("Attempted to bind %s to %s, but it was already bound", this.getClass().getSimpleName(), other.getClass().getSimpleName()));
 
-        BindableList<T> source = bindable.getBoundCopy();
-
-        source.copyTo(this);
+        bindable.copyTo(this);
 
         refer(bindable);
-        source.refer(this);
+        bindable.refer(this);
 
-        return source;
+        return this;
     }
 
     @Override
@@ -742,30 +907,20 @@ public class BindableList<T> implements IBindableList<T> {
         if (bindings.contains(bindable.weakReference))
             throw new IllegalArgumentException(String.format("Attempted to bind %s to %s, but it was already bound", this.getClass().getSimpleName(), other.getClass().getSimpleName()));
 
-        BindableList<T> source = bindable.getWeakCopy();
+        bindable.copyTo(this);
+        bindable.refer(this);
 
-        source.copyTo(this);
-        source.refer(this);
-
-        return source;
+        return this;
     }
 
     private void refer(BindableList<T> bindable) {
-        WeakReference<BindableList<T>> reference = bindable.weakReference;
-
-        if (bindings.contains(reference))
+        if (!bindings.addIfAbsent(bindable.weakReference))
             throw new IllegalArgumentException(String.format("Attempted to add a binding to %s from %s, but it was already bound", this.getClass().getSimpleName(), bindable.getClass().getSimpleName()));
-
-        bindings.add(reference);
     }
 
     private void unrefer(BindableList<T> bindable) {
-        WeakReference<BindableList<T>> reference = bindable.weakReference;
-
-        if (!bindings.contains(reference))
+        if (!bindings.remove(bindable.weakReference))
             throw new IllegalArgumentException(String.format("Attempted to remove a binding to %s from %s, but it was not bound", this.getClass().getSimpleName(), bindable.getClass().getSimpleName()));
-
-        bindings.remove(reference);
     }
 
     @Override
@@ -776,7 +931,7 @@ public class BindableList<T> implements IBindableList<T> {
 
     @Override
     public void unbindWeak() {
-        for (WeakReference<BindableList<T>> binding : new ArrayList<>(bindings)) {
+        for (WeakReference<BindableList<T>> binding : bindings.snapshot()) {
             final BindableList<T> bindable = binding.get();
 
             if (bindable == null) {
@@ -792,7 +947,7 @@ public class BindableList<T> implements IBindableList<T> {
 
     @Override
     public void unbindBindings() {
-        for (WeakReference<BindableList<T>> binding : new ArrayList<>(bindings)) {
+        for (WeakReference<BindableList<T>> binding : bindings.snapshot()) {
             final BindableList<T> bindable = binding.get();
 
             if (bindable == null) {
@@ -10,31 +10,50 @@ package me.ashydev.binding.bindable.map;
 import me.ashydev.binding.IBindableMap;
 import me.ashydev.binding.IUnbindable;
 import me.ashydev.binding.action.Action;
+import me.ashydev.binding.action.Subscription;
 import me.ashydev.binding.action.ValuedAction;
-import me.ashydev.binding.action.event.ValueChangedEvent;
+import me.ashydev.binding.action.execution.Scheduler;
 import me.ashydev.binding.action.queue.ActionQueue;
 import me.ashydev.binding.action.queue.ValuedActionQueue;
+import me.ashydev.binding.bindable.Propagation;
 import me.ashydev.binding.bindable.list.BindableList;
-import me.ashydev.binding.common.reference.LockedWeakList;
+import me.ashydev.binding.common.reference.CopyOnWriteWeakArray;
+import me.ashydev.binding.common.reference.TrackedWeakReference;
 import me.ashydev.binding.event.map.IMapEvent;
 import me.ashydev.binding.event.map.MapEvent;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.lang.ref.WeakReference;
 import java.util.*;
+import java.util.function.BiConsumer;
 
 public class BindableMap<K, V> implements IBindableMap<K, V> {
+    private static final VarHandle VERSION;
+    private static final BiConsumer<BindableMap<?, ?>, Boolean> SCHEDULED_DISABLED = BindableMap::setDisabled;
+
+    static {
+        try {
+            VERSION = MethodHandles.lookup().findVarHandle(BindableMap.class, "version", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     protected static <V> V source(V source, V self) {
         return source != null ? source : self;
     }
 
-    private transient final WeakReference<BindableMap<K, V>> weakReference = new WeakReference<>(this);
+    private transient final WeakReference<BindableMap<K, V>> weakReference = new TrackedWeakReference<>(this);
 
     private transient final ActionQueue<MapEvent<K, V>> collectionChanged = new ActionQueue<>();
     private transient final ValuedActionQueue<Boolean> disabledChanged = new ValuedActionQueue<>();
 
-    private transient final LockedWeakList<BindableMap<K, V>> bindings = new LockedWeakList<>();
+    private transient final CopyOnWriteWeakArray<BindableMap<K, V>> bindings = new CopyOnWriteWeakArray<>();
     private final Map<K, V> map;
+    private transient volatile Scheduler scheduler;
     private transient boolean disabled;
+    private transient long version;
 
 
     public BindableMap(MapType type, Map<K, V> items) {
@@ -60,29 +79,25 @@ public class BindableMap<K, V> implements IBindableMap<K, V> {
     }
 
     protected void propagate(Action<BindableMap<K, V>> propagation, BindableMap<K, V> source) {
-        Iterator<WeakReference<BindableMap<K, V>>> iterator = bindings.iterator();
-
-        while (iterator.hasNext()) {
-            WeakReference<BindableMap<K, V>> binding = iterator.next();
-
+        for (WeakReference<BindableMap<K, V>> binding : bindings.snapshot()) {
             if (binding.refersTo(source)) continue;
 
             BindableMap<K, V> bindable = binding.get();
 
             if (bindable == null) {
-                iterator.remove();
+                bindings.remove(binding);
 
                 continue;
             }
 
-            propagation.accept(bindable);
+            Propagation.forward(propagation, bindable);
         }
     }
 
 
     @Override
-    public void onCollectionChanged(Action<MapEvent<K, V>> action, boolean runOnceImmediately) {
-        collectionChanged.add(action);
+    public Subscription onCollectionChanged(Action<MapEvent<K, V>> action, boolean runOnceImmediately) {
+        Subscription subscription = collectionChanged.subscribe(action);
 
         if (runOnceImmediately) {
             action.accept(
@@ -93,6 +108,8 @@ public class BindableMap<K, V> implements IBindableMap<K, V> {
                     )
             );
         }
+
+        return subscription;
     }
 
     @Override
@@ -100,6 +117,36 @@ public class BindableMap<K, V> implements IBindableMap<K, V> {
         return collectionChanged;
     }
 
+    @Override
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    @Override
+    public void setScheduler(Scheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    private boolean isOffOwnerThread() {
+        Scheduler scheduler = this.scheduler;
+
+        return scheduler != null && !scheduler.isOwnerThread();
+    }
+
+    private void checkOwnerThread() {
+        if (isOffOwnerThread())
+            throw new IllegalStateException(String.format("%s is owned by %s and its state dependent mutations cannot be made from %s", getClass().getSimpleName(), scheduler.getOwner(), Thread.currentThread()));
+    }
+
+    @Override
+    public long version() {
+        return (long) VERSION.getAcquire(this);
+    }
+
+    protected void incrementVersion() {
+        VERSION.getAndAdd(this, 1L);
+    }
+
     @Override
     public BindableMap<K, V> createInstance() {
         return new BindableMap<>();
@@ -134,12 +181,14 @@ public class BindableMap<K, V> implements IBindableMap<K, V> {
     }
 
     private void triggerDisabledChange(boolean beforePropagation, boolean value, boolean bypassChecks, boolean propagateToBindings, BindableMap<K, V> source) {
+        if (beforePropagation != value) incrementVersion();
+
         if (propagateToBindings || bypassChecks) {
             propagate((bindable) -> bindable.setDisabled(disabled, bypassChecks, source), source);
         }
 
         if (beforePropagation != value || bypassChecks) {
-            disabledChanged.execute(new ValueChangedEvent<>(bypassChecks, value));
+            Propagation.execute(disabledChanged, beforePropagation, value);
         }
     }
 
@@ -150,18 +199,26 @@ public class BindableMap<K, V> implements IBindableMap<K, V> {
 
     @Override
     public void setDisabled(boolean disabled) {
+        if (isOffOwnerThread()) {
+            scheduler.schedule(SCHEDULED_DISABLED, this, disabled);
+
+            return;
+        }
+
         if (disabled == this.disabled) return;
 
         setDisabled(disabled, false, null);
     }
 
     @Override
-    public void onDisabledChanged(ValuedAction<Boolean> action, boolean runOnceImmediately) {
-        disabledChanged.add(action);
+    public Subscription onDisabledChanged(ValuedAction<Boolean> action, boolean runOnceImmediately) {
+        Subscription subscription = disabledChanged.subscribe(action);
 
         if (runOnceImmediately) {
-            action.accept(new ValueChangedEvent<>(disabled, disabled));
+            action.accept(disabled, disabled);
         }
+
+        return subscription;
     }
 
     @Override
@@ -177,6 +234,8 @@ public class BindableMap<K, V> implements IBindableMap<K, V> {
     public BindableMap<K, V> copyTo(IBindableMap<K, V> other) {
         if (!(other instanceof BindableMap<K, V> copy)) return null;
 
+        if (copy.scheduler == null) copy.scheduler = scheduler;
+
         copy.map.clear();
         copy.map.putAll(map);
 
@@ -207,14 +266,12 @@ public class BindableMap<K, V> implements IBindableMap<K, V> {
         if (bindings.contains(bindable.weakReference))
             throw new IllegalArgumentException(String.format("Attempted to bind %s to %s, but it was already bound", this.getClass().getSimpleName(), other.getClass().getSimpleName()));
 
-        BindableMap<K, V> source = bindable.getBoundCopy();
-
-        source.copyTo(this);
+        bindable.copyTo(this);
 
         refer(bindable);
-        source.refer(this);
+        bindable.refer(this);
 
-        return source;
+        return this;
     }
 
     @Override
@@ -224,30 +281,20 @@ public class BindableMap<K, V> implements IBindableMap<K, V> {
         if (bindings.contains(bindable.weakReference))
             throw new IllegalArgumentException(String.format("Attempted to bind %s to %s, but it was already bound", this.getClass().getSimpleName(), other.getClass().getSimpleName()));
 
-        BindableMap<K, V> source = bindable.getWeakCopy();
-
-        source.copyTo(this);
-        source.refer(this);
+        bindable.copyTo(this);
+        bindable.refer(this);
 
-        return source;
+        return this;
     }
 
     private void refer(BindableMap<K, V> bindable) {
-        WeakReference<BindableMap<K, V>> reference = bindable.weakReference;
-
-        if (bindings.contains(reference))
+        if (!bindings.addIfAbsent(bindable.weakReference))
             throw new IllegalArgumentException(String.format("Attempted to add a binding to %s from %s, but it was already bound", this.getClass().getSimpleName(), bindable.getClass().getSimpleName()));
-
-        bindings.add(reference);
     }
 
     private void unrefer(BindableMap<K, V> bindable) {
-        WeakReference<BindableMap<K, V>> reference = bindable.weakReference;
-
-        if (!bindings.contains(reference))
+        if (!bindings.remove(bindable.weakReference))
             throw new IllegalArgumentException(String.format("Attempted to remove a binding to %s from %s, but it was not bound", this.getClass().getSimpleName(), bindable.getClass().getSimpleName()));
-
-        bindings.remove(reference);
     }
 
     @Override
@@ -258,7 +305,7 @@ public class BindableMap<K, V> implements IBindableMap<K, V> {
 
     @Override
     public void unbindWeak() {
-        for (WeakReference<BindableMap<K, V>> binding : new ArrayList<>(bindings)) {
+        for (WeakReference<BindableMap<K, V>> binding : bindings.snapshot()) {
             final BindableMap<K, V> bindable = binding.get();
 
             if (bindable == null) {
@@ -274,7 +321,7 @@ public class BindableMap<K, V> implements IBindableMap<K, V> {
 
     @Override
     public void unbindBindings() {
-        for (WeakReference<BindableMap<K, V>> binding : new ArrayList<>(bindings)) {
+        for (WeakReference<BindableMap<K, V>> binding : bindings.snapshot()) {
             final BindableMap<K, V> bindable = binding.get();
 
             if (bindable == null) {
@@ -349,6 +396,8 @@ public class BindableMap<K, V> implements IBindableMap<K, V> {
 
     @Override
     public V put(K key, V value) {
+        checkOwnerThread();
+
         return put(key, value, new HashSet<>());
     }
 
@@ -362,9 +411,11 @@ public class BindableMap<K, V> implements IBindableMap<K, V> {
 
         MapEvent.Type type = oldValue == null ? MapEvent.Type.ADD : MapEvent.Type.REPLACE;
 
+        incrementVersion();
+
         propagate((bindable) -> bindable.put(key, value, appliedInstances), this);
 
-        collectionChanged.execute(
+        Propagation.execute(collectionChanged,
                 new MapEvent<>(
                         type,
                         getElements(key, value),
@@ -378,6 +429,8 @@ public class BindableMap<K, V> implements IBindableMap<K, V> {
 
     @Override
     public V remove(Object key) {
+        checkOwnerThread();
+
         return remove(key, new HashSet<>());
     }
 
@@ -390,9 +443,11 @@ public class BindableMap<K, V> implements IBindableMap<K, V> {
 
         V oldValue = map.remove(key);
 
+        incrementVersion();
+
         propagate((bindable) -> bindable.remove(key, appliedInstances), this);
 
-        collectionChanged.execute(
+        Propagation.execute(collectionChanged,
                 new MapEvent<>(
                         MapEvent.Type.REMOVE,
                         Collections.emptyList(),
@@ -405,6 +460,12 @@ public class BindableMap<K, V> implements IBindableMap<K, V> {
 
     @Override
     public void putAll(Map<? extends K, ? extends V> m) {
+        if (isOffOwnerThread()) {
+            scheduler.schedule(() -> putAll(m));
+
+            return;
+        }
+
         putAll(m, new HashSet<>());
     }
 
@@ -417,9 +478,11 @@ public class BindableMap<K, V> implements IBindableMap<K, V> {
 
         map.putAll(m);
 
+        incrementVersion();
+
         propagate((bindable) -> bindable.putAll(m, appliedInstances), this);
 
-        collectionChanged.execute(
+        Propagation.execute(collectionChanged,
                 new MapEvent<>(
                         MapEvent.Type.ADD,
                         getElements((Map<K, V>) m),
@@ -430,6 +493,12 @@ public class BindableMap<K, V> implements IBindableMap<K, V> {
 
     @Override
     public void clear() {
+        if (isOffOwnerThread()) {
+            scheduler.schedule(() -> clear());
+
+            return;
+        }
+
         clear(new HashSet<>());
     }
 
@@ -441,9 +510,11 @@ public class BindableMap<K, V> implements IBindableMap<K, V> {
 
         map.clear();
 
+        incrementVersion();
+
         propagate((bindable) -> bindable.clear(appliedInstances), this);
 
-        collectionChanged.execute(
+        Propagation.execute(collectionChanged,
                 new MapEvent<>(
                         MapEvent.Type.REMOVE,
                         Collections.emptyList(),
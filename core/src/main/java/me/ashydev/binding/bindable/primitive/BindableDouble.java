@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.bindable.primitive;
+
+import me.ashydev.binding.IBindable;
+import me.ashydev.binding.action.DoubleValuedAction;
+import me.ashydev.binding.action.Subscription;
+import me.ashydev.binding.action.queue.DoubleValuedActionQueue;
+import me.ashydev.binding.bindable.Bindable;
+import me.ashydev.binding.bindable.Propagation;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.DoubleUnaryOperator;
+
+public class BindableDouble extends PrimitiveBindable<Double, DoubleValuedActionQueue> {
+    private static final VarHandle DOUBLE_VALUE;
+
+    static {
+        try {
+            DOUBLE_VALUE = MethodHandles.lookup().findVarHandle(BindableDouble.class, "doubleValue", double.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    protected double doubleValue;
+
+    public BindableDouble() {
+        this(0.0);
+    }
+
+    public BindableDouble(double value) {
+        super(Double.class);
+
+        this.doubleValue = value;
+    }
+
+    protected static boolean same(double a, double b) {
+        return Double.doubleToLongBits(a) == Double.doubleToLongBits(b);
+    }
+
+    @Override
+    public Double get() {
+        return getDouble();
+    }
+
+    public double getDouble() {
+        return (double) DOUBLE_VALUE.getAcquire(this);
+    }
+
+    public void set(double value) {
+        if (isOffOwnerThread()) {
+            getScheduler().schedule(SCHEDULED_SET, this, Double.doubleToLongBits(value));
+
+            return;
+        }
+
+        if (same(value, getDouble())) return;
+
+        if (hasEqualityStrategy() && isEqual(value, getDouble())) return;
+
+        updateValue(value, null);
+    }
+
+    // expected matches any current value the equality strategy considers equivalent.
+    public boolean compareAndSet(double expected, double next) {
+        checkOwnerThread();
+
+        while (true) {
+            double current = getDouble();
+
+            if (!equivalent(current, expected)) return false;
+            if (equivalent(current, next)) return true;
+
+            if (DOUBLE_VALUE.compareAndSet(this, current, next)) {
+                triggerBitsChanged(Double.doubleToLongBits(current), Double.doubleToLongBits(next), this);
+
+                return true;
+            }
+        }
+    }
+
+    private boolean equivalent(double a, double b) {
+        return same(a, b) || (hasEqualityStrategy() && isEqual(a, b));
+    }
+
+    public double getAndUpdateDouble(DoubleUnaryOperator operator) {
+        double previous;
+
+        do {
+            previous = getDouble();
+        } while (!compareAndSet(previous, operator.applyAsDouble(previous)));
+
+        return previous;
+    }
+
+    public double updateAndGetDouble(DoubleUnaryOperator operator) {
+        double previous, next;
+
+        do {
+            previous = getDouble();
+            next = operator.applyAsDouble(previous);
+        } while (!compareAndSet(previous, next));
+
+        return next;
+    }
+
+    protected void updateValue(double value, Bindable<Double> source) {
+        double oldValue = (double) DOUBLE_VALUE.getAndSet(this, value);
+
+        triggerBitsChanged(Double.doubleToLongBits(oldValue), Double.doubleToLongBits(value), source(source, this));
+    }
+
+    @Override
+    protected long bits() {
+        return Double.doubleToLongBits(getDouble());
+    }
+
+    @Override
+    protected long toBits(Double value) {
+        return Double.doubleToLongBits(value.doubleValue());
+    }
+
+    @Override
+    protected Double fromBits(long bits) {
+        return Double.longBitsToDouble(bits);
+    }
+
+    @Override
+    protected void setBits(long bits) {
+        set(Double.longBitsToDouble(bits));
+    }
+
+    @Override
+    protected boolean compareAndSetBits(long expected, long next) {
+        return compareAndSet(Double.longBitsToDouble(expected), Double.longBitsToDouble(next));
+    }
+
+    @Override
+    protected void updateBits(long bits, Bindable<Double> source) {
+        updateValue(Double.longBitsToDouble(bits), source);
+    }
+
+    @Override
+    protected DoubleValuedActionQueue createPrimitiveValueChanged() {
+        return new DoubleValuedActionQueue();
+    }
+
+    @Override
+    protected void dispatch(DoubleValuedActionQueue queue, long old, long value) {
+        Propagation.execute(queue, Double.longBitsToDouble(old), Double.longBitsToDouble(value));
+    }
+
+    public Subscription onDoubleValueChanged(DoubleValuedAction action, boolean runOnceImmediately) {
+        Subscription subscription = getDoubleValueChanged().subscribe(action);
+
+        if (runOnceImmediately) {
+            double value = getDouble();
+
+            action.accept(value, value);
+        }
+
+        return subscription;
+    }
+
+    public Subscription onDoubleValueChanged(DoubleValuedAction action) {
+        return onDoubleValueChanged(action, false);
+    }
+
+    public DoubleValuedActionQueue getDoubleValueChanged() {
+        return getPrimitiveValueChanged();
+    }
+
+    @Override
+    public BindableDouble createInstance() {
+        return new BindableDouble();
+    }
+
+    @Override
+    public BindableDouble copy() {
+        return (BindableDouble) super.copy();
+    }
+
+    @Override
+    public BindableDouble getBoundCopy() {
+        return (BindableDouble) super.getBoundCopy();
+    }
+
+    @Override
+    public BindableDouble getUnboundCopy() {
+        return (BindableDouble) super.getUnboundCopy();
+    }
+
+    @Override
+    public BindableDouble getWeakCopy() {
+        return (BindableDouble) super.getWeakCopy();
+    }
+
+    @Override
+    public BindableDouble bindTo(IBindable<Double> other) {
+        return (BindableDouble) super.bindTo(other);
+    }
+
+    @Override
+    public BindableDouble weakBind(IBindable<Double> other) {
+        return (BindableDouble) super.weakBind(other);
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.bindable.primitive;
+
+import me.ashydev.binding.IBindable;
+import me.ashydev.binding.action.FloatValuedAction;
+import me.ashydev.binding.action.Subscription;
+import me.ashydev.binding.action.queue.FloatValuedActionQueue;
+import me.ashydev.binding.bindable.Bindable;
+import me.ashydev.binding.bindable.Propagation;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+public class BindableFloat extends PrimitiveBindable<Float, FloatValuedActionQueue> {
+    private static final VarHandle FLOAT_VALUE;
+
+    static {
+        try {
+            FLOAT_VALUE = MethodHandles.lookup().findVarHandle(BindableFloat.class, "floatValue", float.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    protected float floatValue;
+
+    public BindableFloat() {
+        this(0.0f);
+    }
+
+    public BindableFloat(float value) {
+        super(Float.class);
+
+        this.floatValue = value;
+    }
+
+    protected static boolean same(float a, float b) {
+        return Float.floatToIntBits(a) == Float.floatToIntBits(b);
+    }
+
+    @Override
+    public Float get() {
+        return getFloat();
+    }
+
+    public float getFloat() {
+        return (float) FLOAT_VALUE.getAcquire(this);
+    }
+
+    public void set(float value) {
+        if (isOffOwnerThread()) {
+            getScheduler().schedule(SCHEDULED_SET, this, Float.floatToIntBits(value));
+
+            return;
+        }
+
+        if (same(value, getFloat())) return;
+
+        if (hasEqualityStrategy() && isEqual(value, getFloat())) return;
+
+        updateValue(value, null);
+    }
+
+    // expected matches any current value the equality strategy considers equivalent.
+    public boolean compareAndSet(float expected, float next) {
+        checkOwnerThread();
+
+        while (true) {
+            float current = getFloat();
+
+            if (!equivalent(current, expected)) return false;
+            if (equivalent(current, next)) return true;
+
+            if (FLOAT_VALUE.compareAndSet(this, current, next)) {
+                triggerBitsChanged(Float.floatToIntBits(current), Float.floatToIntBits(next), this);
+
+                return true;
+            }
+        }
+    }
+
+    private boolean equivalent(float a, float b) {
+        return same(a, b) || (hasEqualityStrategy() && isEqual(a, b));
+    }
+
+    protected void updateValue(float value, Bindable<Float> source) {
+        float oldValue = (float) FLOAT_VALUE.getAndSet(this, value);
+
+        triggerBitsChanged(Float.floatToIntBits(oldValue), Float.floatToIntBits(value), source(source, this));
+    }
+
+    @Override
+    protected long bits() {
+        return Float.floatToIntBits(getFloat());
+    }
+
+    @Override
+    protected long toBits(Float value) {
+        return Float.floatToIntBits(value.floatValue());
+    }
+
+    @Override
+    protected Float fromBits(long bits) {
+        return Float.intBitsToFloat((int) bits);
+    }
+
+    @Override
+    protected void setBits(long bits) {
+        set(Float.intBitsToFloat((int) bits));
+    }
+
+    @Override
+    protected boolean compareAndSetBits(long expected, long next) {
+        return compareAndSet(Float.intBitsToFloat((int) expected), Float.intBitsToFloat((int) next));
+    }
+
+    @Override
+    protected void updateBits(long bits, Bindable<Float> source) {
+        updateValue(Float.intBitsToFloat((int) bits), source);
+    }
+
+    @Override
+    protected FloatValuedActionQueue createPrimitiveValueChanged() {
+        return new FloatValuedActionQueue();
+    }
+
+    @Override
+    protected void dispatch(FloatValuedActionQueue queue, long old, long value) {
+        Propagation.execute(queue, Float.intBitsToFloat((int) old), Float.intBitsToFloat((int) value));
+    }
+
+    public Subscription onFloatValueChanged(FloatValuedAction action, boolean runOnceImmediately) {
+        Subscription subscription = getFloatValueChanged().subscribe(action);
+
+        if (runOnceImmediately) {
+            float value = getFloat();
+
+            action.accept(value, value);
+        }
+
+        return subscription;
+    }
+
+    public Subscription onFloatValueChanged(FloatValuedAction action) {
+        return onFloatValueChanged(action, false);
+    }
+
+    public FloatValuedActionQueue getFloatValueChanged() {
+        return getPrimitiveValueChanged();
+    }
+
+    @Override
+    public BindableFloat createInstance() {
+        return new BindableFloat();
+    }
+
+    @Override
+    public BindableFloat copy() {
+        return (BindableFloat) super.copy();
+    }
+
+    @Override
+    public BindableFloat getBoundCopy() {
+        return (BindableFloat) super.getBoundCopy();
+    }
+
+    @Override
+    public BindableFloat getUnboundCopy() {
+        return (BindableFloat) super.getUnboundCopy();
+    }
+
+    @Override
+    public BindableFloat getWeakCopy() {
+        return (BindableFloat) super.getWeakCopy();
+    }
+
+    @Override
+    public BindableFloat bindTo(IBindable<Float> other) {
+        return (BindableFloat) super.bindTo(other);
+    }
+
+    @Override
+    public BindableFloat weakBind(IBindable<Float> other) {
+        return (BindableFloat) super.weakBind(other);
+    }
+}
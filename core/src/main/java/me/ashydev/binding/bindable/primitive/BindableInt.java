@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.bindable.primitive;
+
+import me.ashydev.binding.IBindable;
+import me.ashydev.binding.action.IntValuedAction;
+import me.ashydev.binding.action.Subscription;
+import me.ashydev.binding.action.queue.IntValuedActionQueue;
+import me.ashydev.binding.bindable.Bindable;
+import me.ashydev.binding.bindable.Propagation;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.IntUnaryOperator;
+
+public class BindableInt extends PrimitiveBindable<Integer, IntValuedActionQueue> {
+    private static final VarHandle INT_VALUE;
+
+    static {
+        try {
+            INT_VALUE = MethodHandles.lookup().findVarHandle(BindableInt.class, "intValue", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    protected int intValue;
+
+    public BindableInt() {
+        this(0);
+    }
+
+    public BindableInt(int value) {
+        super(Integer.class);
+
+        this.intValue = value;
+    }
+
+    protected static boolean same(int a, int b) {
+        return a == b;
+    }
+
+    @Override
+    public Integer get() {
+        return getInt();
+    }
+
+    public int getInt() {
+        return (int) INT_VALUE.getAcquire(this);
+    }
+
+    public void set(int value) {
+        if (isOffOwnerThread()) {
+            getScheduler().schedule(SCHEDULED_SET, this, value);
+
+            return;
+        }
+
+        if (same(value, getInt())) return;
+
+        if (hasEqualityStrategy() && isEqual(value, getInt())) return;
+
+        updateValue(value, null);
+    }
+
+    // expected matches any current value the equality strategy considers equivalent.
+    public boolean compareAndSet(int expected, int next) {
+        checkOwnerThread();
+
+        while (true) {
+            int current = getInt();
+
+            if (!equivalent(current, expected)) return false;
+            if (equivalent(current, next)) return true;
+
+            if (INT_VALUE.compareAndSet(this, current, next)) {
+                triggerBitsChanged(current, next, this);
+
+                return true;
+            }
+        }
+    }
+
+    private boolean equivalent(int a, int b) {
+        return same(a, b) || (hasEqualityStrategy() && isEqual(a, b));
+    }
+
+    public int getAndUpdateInt(IntUnaryOperator operator) {
+        int previous;
+
+        do {
+            previous = getInt();
+        } while (!compareAndSet(previous, operator.applyAsInt(previous)));
+
+        return previous;
+    }
+
+    public int updateAndGetInt(IntUnaryOperator operator) {
+        int previous, next;
+
+        do {
+            previous = getInt();
+            next = operator.applyAsInt(previous);
+        } while (!compareAndSet(previous, next));
+
+        return next;
+    }
+
+    public int getAndAdd(int delta) {
+        checkOwnerThread();
+
+        if (delta == 0) return getInt();
+
+        int previous = (int) INT_VALUE.getAndAdd(this, delta);
+
+        triggerBitsChanged(previous, previous + delta, this);
+
+        return previous;
+    }
+
+    public int addAndGet(int delta) {
+        return getAndAdd(delta) + delta;
+    }
+
+    protected void updateValue(int value, Bindable<Integer> source) {
+        int oldValue = (int) INT_VALUE.getAndSet(this, value);
+
+        triggerBitsChanged(oldValue, value, source(source, this));
+    }
+
+    @Override
+    protected long bits() {
+        return getInt();
+    }
+
+    @Override
+    protected long toBits(Integer value) {
+        return value.intValue();
+    }
+
+    @Override
+    protected Integer fromBits(long bits) {
+        return (int) bits;
+    }
+
+    @Override
+    protected void setBits(long bits) {
+        set((int) bits);
+    }
+
+    @Override
+    protected boolean compareAndSetBits(long expected, long next) {
+        return compareAndSet((int) expected, (int) next);
+    }
+
+    @Override
+    protected void updateBits(long bits, Bindable<Integer> source) {
+        updateValue((int) bits, source);
+    }
+
+    @Override
+    protected IntValuedActionQueue createPrimitiveValueChanged() {
+        return new IntValuedActionQueue();
+    }
+
+    @Override
+    protected void dispatch(IntValuedActionQueue queue, long old, long value) {
+        Propagation.execute(queue, (int) old, (int) value);
+    }
+
+    public Subscription onIntValueChanged(IntValuedAction action, boolean runOnceImmediately) {
+        Subscription subscription = getIntValueChanged().subscribe(action);
+
+        if (runOnceImmediately) {
+            int value = getInt();
+
+            action.accept(value, value);
+        }
+
+        return subscription;
+    }
+
+    public Subscription onIntValueChanged(IntValuedAction action) {
+        return onIntValueChanged(action, false);
+    }
+
+    public IntValuedActionQueue getIntValueChanged() {
+        return getPrimitiveValueChanged();
+    }
+
+    @Override
+    public BindableInt createInstance() {
+        return new BindableInt();
+    }
+
+    @Override
+    public BindableInt copy() {
+        return (BindableInt) super.copy();
+    }
+
+    @Override
+    public BindableInt getBoundCopy() {
+        return (BindableInt) super.getBoundCopy();
+    }
+
+    @Override
+    public BindableInt getUnboundCopy() {
+        return (BindableInt) super.getUnboundCopy();
+    }
+
+    @Override
+    public BindableInt getWeakCopy() {
+        return (BindableInt) super.getWeakCopy();
+    }
+
+    @Override
+    public BindableInt bindTo(IBindable<Integer> other) {
+        return (BindableInt) super.bindTo(other);
+    }
+
+    @Override
+    public BindableInt weakBind(IBindable<Integer> other) {
+        return (BindableInt) super.weakBind(other);
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.bindable.primitive;
+
+import me.ashydev.binding.IBindable;
+import me.ashydev.binding.action.LongValuedAction;
+import me.ashydev.binding.action.Subscription;
+import me.ashydev.binding.action.queue.LongValuedActionQueue;
+import me.ashydev.binding.bindable.Bindable;
+import me.ashydev.binding.bindable.Propagation;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.LongUnaryOperator;
+
+public class BindableLong extends PrimitiveBindable<Long, LongValuedActionQueue> {
+    private static final VarHandle LONG_VALUE;
+
+    static {
+        try {
+            LONG_VALUE = MethodHandles.lookup().findVarHandle(BindableLong.class, "longValue", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    protected long longValue;
+
+    public BindableLong() {
+        this(0L);
+    }
+
+    public BindableLong(long value) {
+        super(Long.class);
+
+        this.longValue = value;
+    }
+
+    protected static boolean same(long a, long b) {
+        return a == b;
+    }
+
+    @Override
+    public Long get() {
+        return getLong();
+    }
+
+    public long getLong() {
+        return (long) LONG_VALUE.getAcquire(this);
+    }
+
+    public void set(long value) {
+        if (isOffOwnerThread()) {
+            getScheduler().schedule(SCHEDULED_SET, this, value);
+
+            return;
+        }
+
+        if (same(value, getLong())) return;
+
+        if (hasEqualityStrategy() && isEqual(value, getLong())) return;
+
+        updateValue(value, null);
+    }
+
+    // expected matches any current value the equality strategy considers equivalent.
+    public boolean compareAndSet(long expected, long next) {
+        checkOwnerThread();
+
+        while (true) {
+            long current = getLong();
+
+            if (!equivalent(current, expected)) return false;
+            if (equivalent(current, next)) return true;
+
+            if (LONG_VALUE.compareAndSet(this, current, next)) {
+                triggerBitsChanged(current, next, this);
+
+                return true;
+            }
+        }
+    }
+
+    private boolean equivalent(long a, long b) {
+        return same(a, b) || (hasEqualityStrategy() && isEqual(a, b));
+    }
+
+    public long getAndUpdateLong(LongUnaryOperator operator) {
+        long previous;
+
+        do {
+            previous = getLong();
+        } while (!compareAndSet(previous, operator.applyAsLong(previous)));
+
+        return previous;
+    }
+
+    public long updateAndGetLong(LongUnaryOperator operator) {
+        long previous, next;
+
+        do {
+            previous = getLong();
+            next = operator.applyAsLong(previous);
+        } while (!compareAndSet(previous, next));
+
+        return next;
+    }
+
+    public long getAndAdd(long delta) {
+        checkOwnerThread();
+
+        if (delta == 0) return getLong();
+
+        long previous = (long) LONG_VALUE.getAndAdd(this, delta);
+
+        triggerBitsChanged(previous, previous + delta, this);
+
+        return previous;
+    }
+
+    public long addAndGet(long delta) {
+        return getAndAdd(delta) + delta;
+    }
+
+    protected void updateValue(long value, Bindable<Long> source) {
+        long oldValue = (long) LONG_VALUE.getAndSet(this, value);
+
+        triggerBitsChanged(oldValue, value, source(source, this));
+    }
+
+    @Override
+    protected long bits() {
+        return getLong();
+    }
+
+    @Override
+    protected long toBits(Long value) {
+        return value.longValue();
+    }
+
+    @Override
+    protected Long fromBits(long bits) {
+        return bits;
+    }
+
+    @Override
+    protected void setBits(long bits) {
+        set(bits);
+    }
+
+    @Override
+    protected boolean compareAndSetBits(long expected, long next) {
+        return compareAndSet(expected, next);
+    }
+
+    @Override
+    protected void updateBits(long bits, Bindable<Long> source) {
+        updateValue(bits, source);
+    }
+
+    @Override
+    protected LongValuedActionQueue createPrimitiveValueChanged() {
+        return new LongValuedActionQueue();
+    }
+
+    @Override
+    protected void dispatch(LongValuedActionQueue queue, long old, long value) {
+        Propagation.execute(queue, old, value);
+    }
+
+    public Subscription onLongValueChanged(LongValuedAction action, boolean runOnceImmediately) {
+        Subscription subscription = getLongValueChanged().subscribe(action);
+
+        if (runOnceImmediately) {
+            long value = getLong();
+
+            action.accept(value, value);
+        }
+
+        return subscription;
+    }
+
+    public Subscription onLongValueChanged(LongValuedAction action) {
+        return onLongValueChanged(action, false);
+    }
+
+    public LongValuedActionQueue getLongValueChanged() {
+        return getPrimitiveValueChanged();
+    }
+
+    @Override
+    public BindableLong createInstance() {
+        return new BindableLong();
+    }
+
+    @Override
+    public BindableLong copy() {
+        return (BindableLong) super.copy();
+    }
+
+    @Override
+    public BindableLong getBoundCopy() {
+        return (BindableLong) super.getBoundCopy();
+    }
+
+    @Override
+    public BindableLong getUnboundCopy() {
+        return (BindableLong) super.getUnboundCopy();
+    }
+
+    @Override
+    public BindableLong getWeakCopy() {
+        return (BindableLong) super.getWeakCopy();
+    }
+
+    @Override
+    public BindableLong bindTo(IBindable<Long> other) {
+        return (BindableLong) super.bindTo(other);
+    }
+
+    @Override
+    public BindableLong weakBind(IBindable<Long> other) {
+        return (BindableLong) super.weakBind(other);
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.bindable.primitive;
+
+import me.ashydev.binding.IBindable;
+import me.ashydev.binding.action.Subscription;
+import me.ashydev.binding.action.ValuedAction;
+import me.ashydev.binding.action.queue.ListenerQueue;
+import me.ashydev.binding.action.queue.ValuedActionQueue;
+import me.ashydev.binding.bindable.Bindable;
+import me.ashydev.binding.bindable.Propagation;
+
+import java.util.function.ObjLongConsumer;
+
+// Listener and propagation plumbing shared by the primitive bindables. Values cross this class as
+// long bits (ints and longs as-is, floats and doubles through their canonical bit patterns), so
+// equal bits mean the same value and nothing here boxes unless a boxed listener is attached.
+abstract class PrimitiveBindable<T, Q extends ListenerQueue<?>> extends Bindable<T> {
+    protected static final ObjLongConsumer<PrimitiveBindable<?, ?>> SCHEDULED_SET = PrimitiveBindable::setBits;
+
+    protected transient volatile Q primitiveValueChanged;
+
+    PrimitiveBindable(Class<T> type) {
+        super();
+
+        this.type = type;
+    }
+
+    protected abstract long bits();
+
+    protected abstract long toBits(T value);
+
+    protected abstract T fromBits(long bits);
+
+    protected abstract void setBits(long bits);
+
+    protected abstract boolean compareAndSetBits(long expected, long next);
+
+    protected abstract void updateBits(long bits, Bindable<T> source);
+
+    protected abstract Q createPrimitiveValueChanged();
+
+    protected abstract void dispatch(Q queue, long old, long value);
+
+    // Every boxed entry point funnels through here, so null is rejected before anything unboxes it.
+    private long unbox(T value) {
+        if (value == null)
+            throw new IllegalArgumentException(String.format("Attempted to set %s to null, but it only holds %s values.", this.getClass().getSimpleName(), type.getSimpleName()));
+
+        return toBits(value);
+    }
+
+    @Override
+    public void set(T value) {
+        setBits(unbox(value));
+    }
+
+    @Override
+    public boolean compareAndSet(T expected, T next) {
+        long bits = unbox(next);
+
+        return expected != null && compareAndSetBits(toBits(expected), bits);
+    }
+
+    @Override
+    protected void updateValue(T value, Bindable<T> source) {
+        updateBits(unbox(value), source);
+    }
+
+    protected void triggerBitsChanged(long beforePropagation, long value, Bindable<T> source) {
+        triggerBitsChanged(beforePropagation, value, false, true, source);
+    }
+
+    protected void triggerBitsChanged(
+            long beforePropagation,
+            long value,
+            boolean bypassChecks,
+            boolean propagateToBindings,
+            Bindable<T> source
+    ) {
+        boolean changed = beforePropagation != value;
+
+        if (changed) incrementVersion();
+
+        if (propagateToBindings || bypassChecks) propagateValue(source);
+
+        if (changed || bypassChecks) {
+            Q primitiveValueChanged = this.primitiveValueChanged;
+            ValuedActionQueue<T> valueChanged = valueChanged();
+
+            if (primitiveValueChanged != null)
+                dispatch(primitiveValueChanged, beforePropagation, value);
+
+            if (valueChanged != null && !valueChanged.isEmpty())
+                Propagation.execute(valueChanged, fromBits(beforePropagation), fromBits(value));
+        }
+    }
+
+    @Override
+    protected void triggerValueChanged(
+            T beforePropagation,
+            T value,
+            boolean bypassChecks,
+            boolean propagateToBindings,
+            Bindable<T> source
+    ) {
+        triggerBitsChanged(unbox(beforePropagation), unbox(value), bypassChecks, propagateToBindings, source);
+    }
+
+    @Override
+    protected void applyFrom(Bindable<T> source) {
+        if (source instanceof PrimitiveBindable<T, ?> primitive) setBits(primitive.bits());
+        else super.applyFrom(source);
+    }
+
+    @Override
+    protected void triggerChange() {
+        long bits = bits();
+
+        triggerBitsChanged(bits, bits, this);
+        triggerDisabledChange(disabled, disabled, this);
+    }
+
+    @Override
+    public Subscription onValueChanged(ValuedAction<T> action, boolean runOnceImmediately) {
+        Subscription subscription = getValueChanged().subscribe(action);
+
+        if (runOnceImmediately) {
+            T value = get();
+
+            action.accept(value, value);
+        }
+
+        return subscription;
+    }
+
+    protected synchronized Q getPrimitiveValueChanged() {
+        if (primitiveValueChanged == null) primitiveValueChanged = createPrimitiveValueChanged();
+
+        return primitiveValueChanged;
+    }
+
+    @Override
+    public void unbindEvents() {
+        super.unbindEvents();
+
+        if (primitiveValueChanged != null) primitiveValueChanged.clear();
+    }
+
+    @Override
+    public Bindable<T> copyTo(IBindable<T> other) {
+        if (!(other instanceof PrimitiveBindable<T, ?> primitive)) return super.copyTo(other);
+
+        copyStateTo(primitive);
+        primitive.setBits(bits());
+        primitive.setDisabled(isDisabled());
+
+        return primitive;
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.types;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+@FunctionalInterface
+public interface EqualityStrategy<T> {
+    boolean equivalent(T a, T b);
+
+    static <T> EqualityStrategy<T> identity() {
+        return (a, b) -> a == b;
+    }
+
+    static <T> EqualityStrategy<T> equality() {
+        return Objects::equals;
+    }
+
+    static <T> EqualityStrategy<T> comparing(Comparator<? super T> comparator) {
+        return (a, b) -> a == b || (a != null && b != null && comparator.compare(a, b) == 0);
+    }
+
+    static <T extends Number> EqualityStrategy<T> within(double epsilon) {
+        if (epsilon < 0 || Double.isNaN(epsilon))
+            throw new IllegalArgumentException(String.format("Epsilon must be a non-negative number, got %s", epsilon));
+
+        return (a, b) -> a == b || (a != null && b != null && Math.abs(a.doubleValue() - b.doubleValue()) <= epsilon);
+    }
+}
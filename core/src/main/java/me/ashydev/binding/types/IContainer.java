@@ -7,9 +7,23 @@
 
 package me.ashydev.binding.types;
 
+import me.ashydev.binding.action.BiValuedAction;
+import me.ashydev.binding.action.ConflatingMailbox;
+import me.ashydev.binding.action.ExecutorAction;
+import me.ashydev.binding.action.Subscription;
 import me.ashydev.binding.action.ValuedAction;
+import me.ashydev.binding.action.event.EventBatch;
+import me.ashydev.binding.action.event.ValueChangedEvent;
+import me.ashydev.binding.action.queue.OverflowStrategy;
 import me.ashydev.binding.action.queue.ValuedActionQueue;
 
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
 public interface IContainer<T> {
     ValuedActionQueue<T> getValueChanged();
 
@@ -17,9 +31,74 @@ public interface IContainer<T> {
 
     void set(T value);
 
-    void onValueChanged(ValuedAction<T> action, boolean runOnceImmediately);
+    boolean compareAndSet(T expected, T next);
+
+    default T getAndUpdate(UnaryOperator<T> operator) {
+        T previous;
+
+        do {
+            previous = get();
+        } while (!compareAndSet(previous, operator.apply(previous)));
+
+        return previous;
+    }
+
+    default T updateAndGet(UnaryOperator<T> operator) {
+        T previous, next;
+
+        do {
+            previous = get();
+            next = operator.apply(previous);
+        } while (!compareAndSet(previous, next));
+
+        return next;
+    }
+
+    Subscription onValueChanged(ValuedAction<T> action, boolean runOnceImmediately);
+
+    default Subscription onValueChanged(ValuedAction<T> action) {
+        return onValueChanged(action, false);
+    }
+
+    default Subscription onValueChanged(BiValuedAction<T> action, boolean runOnceImmediately) {
+        return onValueChanged((ValuedAction<T>) action, runOnceImmediately);
+    }
+
+    default Subscription onValueChanged(BiValuedAction<T> action) {
+        return onValueChanged(action, false);
+    }
+
+    default Subscription onValueChanged(ValuedAction<T> action, int priority) {
+        return getValueChanged().subscribe(action, priority);
+    }
+
+    default Subscription onValueChanged(BiValuedAction<T> action, int priority) {
+        return onValueChanged((ValuedAction<T>) action, priority);
+    }
+
+    default <O> Subscription onValueChanged(O owner, BiConsumer<? super O, ? super ValueChangedEvent<T>> action) {
+        return getValueChanged().subscribeWeak(owner, action);
+    }
+
+    default Subscription onValueChanged(ValuedAction<T> action, Executor executor) {
+        ExecutorAction<ValueChangedEvent<T>> dispatched = new ExecutorAction<>(action, executor);
+
+        return onValueChanged(dispatched::accept, false);
+    }
+
+    default Subscription onValueChanged(BiValuedAction<T> action, Executor executor) {
+        return onValueChanged((ValuedAction<T>) action, executor);
+    }
+
+    default Subscription onValueChangedBatch(Consumer<EventBatch<T>> consumer, int maxBatch, Duration maxDelay) {
+        return getValueChanged().batch(maxBatch, maxDelay, consumer);
+    }
+
+    default Flow.Publisher<ValueChangedEvent<T>> publisher(OverflowStrategy strategy, int capacity) {
+        return getValueChanged().publisher(strategy, capacity);
+    }
 
-    default void onValueChanged(ValuedAction<T> action) {
-        onValueChanged(action, false);
+    default Subscription onValueChangedConflated(ValuedAction<T> action, Executor executor) {
+        return onValueChanged(new ConflatingMailbox<>(action, executor), false);
     }
 }
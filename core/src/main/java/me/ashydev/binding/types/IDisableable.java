@@ -7,6 +7,8 @@
 
 package me.ashydev.binding.types;
 
+import me.ashydev.binding.action.BiValuedAction;
+import me.ashydev.binding.action.Subscription;
 import me.ashydev.binding.action.ValuedAction;
 import me.ashydev.binding.action.queue.ValuedActionQueue;
 
@@ -25,9 +27,25 @@ public interface IDisableable {
 
     void setDisabled(boolean value);
 
-    void onDisabledChanged(ValuedAction<Boolean> action, boolean runOnceImmediately);
+    Subscription onDisabledChanged(ValuedAction<Boolean> action, boolean runOnceImmediately);
 
-    default void onDisabledChanged(ValuedAction<Boolean> action) {
-        onDisabledChanged(action, false);
+    default Subscription onDisabledChanged(ValuedAction<Boolean> action) {
+        return onDisabledChanged(action, false);
+    }
+
+    default Subscription onDisabledChanged(BiValuedAction<Boolean> action, boolean runOnceImmediately) {
+        return onDisabledChanged((ValuedAction<Boolean>) action, runOnceImmediately);
+    }
+
+    default Subscription onDisabledChanged(BiValuedAction<Boolean> action) {
+        return onDisabledChanged(action, false);
+    }
+
+    default Subscription onDisabledChanged(ValuedAction<Boolean> action, int priority) {
+        return getDisabledChanged().subscribe(action, priority);
+    }
+
+    default Subscription onDisabledChanged(BiValuedAction<Boolean> action, int priority) {
+        return onDisabledChanged((ValuedAction<Boolean>) action, priority);
     }
 }
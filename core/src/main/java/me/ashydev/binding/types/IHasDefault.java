@@ -7,6 +7,8 @@
 
 package me.ashydev.binding.types;
 
+import me.ashydev.binding.action.BiValuedAction;
+import me.ashydev.binding.action.Subscription;
 import me.ashydev.binding.action.ValuedAction;
 import me.ashydev.binding.action.queue.ValuedActionQueue;
 
@@ -21,9 +23,17 @@ public interface IHasDefault<T> {
 
     boolean isDefault();
 
-    void onDefaultChanged(ValuedAction<T> action, boolean runOnceImmediately);
+    Subscription onDefaultChanged(ValuedAction<T> action, boolean runOnceImmediately);
 
-    default void onDefaultChanged(ValuedAction<T> action) {
-        onDefaultChanged(action, false);
+    default Subscription onDefaultChanged(ValuedAction<T> action) {
+        return onDefaultChanged(action, false);
+    }
+
+    default Subscription onDefaultChanged(BiValuedAction<T> action, boolean runOnceImmediately) {
+        return onDefaultChanged((ValuedAction<T>) action, runOnceImmediately);
+    }
+
+    default Subscription onDefaultChanged(BiValuedAction<T> action) {
+        return onDefaultChanged(action, false);
     }
 }
@@ -7,6 +7,8 @@
 
 package me.ashydev.binding.types;
 
+import me.ashydev.binding.action.BiValuedAction;
+import me.ashydev.binding.action.Subscription;
 import me.ashydev.binding.action.ValuedAction;
 import me.ashydev.binding.action.queue.ValuedActionQueue;
 
@@ -21,10 +23,18 @@ public interface ILeaser<T> {
 
     void end(T bindable);
 
-    void onLeaseChanged(ValuedAction<LeaseState> action, boolean runOnceImmediately);
+    Subscription onLeaseChanged(ValuedAction<LeaseState> action, boolean runOnceImmediately);
 
-    default void onLeaseChanged(ValuedAction<LeaseState> action) {
-        onLeaseChanged(action, false);
+    default Subscription onLeaseChanged(ValuedAction<LeaseState> action) {
+        return onLeaseChanged(action, false);
+    }
+
+    default Subscription onLeaseChanged(BiValuedAction<LeaseState> action, boolean runOnceImmediately) {
+        return onLeaseChanged((ValuedAction<LeaseState>) action, runOnceImmediately);
+    }
+
+    default Subscription onLeaseChanged(BiValuedAction<LeaseState> action) {
+        return onLeaseChanged(action, false);
     }
 
     enum LeaseState {
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+package me.ashydev.binding.types;
+
+import me.ashydev.binding.action.execution.Scheduler;
+
+public interface IScheduled {
+    Scheduler getScheduler();
+
+    void setScheduler(Scheduler scheduler);
+
+    default boolean isOwnerThread() {
+        Scheduler scheduler = getScheduler();
+
+        return scheduler == null || scheduler.isOwnerThread();
+    }
+}
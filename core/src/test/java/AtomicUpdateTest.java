@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+import me.ashydev.binding.bindable.Bindable;
+import me.ashydev.binding.bindable.BindingScheduler;
+import me.ashydev.binding.bindable.primitive.BindableInt;
+import me.ashydev.binding.types.EqualityStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class AtomicUpdateTest {
+    private static final int THREADS = 4, ITERATIONS = 10_000;
+
+    private AtomicInteger notified;
+
+    @BeforeEach
+    public void setUp() {
+        notified = new AtomicInteger();
+    }
+
+    private static void concurrently(Runnable task) throws InterruptedException {
+        Thread[] threads = new Thread[THREADS];
+
+        for (int i = 0; i < THREADS; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < ITERATIONS; j++)
+                    task.run();
+            });
+
+            threads[i].start();
+        }
+
+        for (Thread thread : threads)
+            thread.join();
+    }
+
+    @Test
+    public void testCompareAndSet() {
+        Bindable<String> bindable = new Bindable<>("initial");
+        Bindable<String> other = bindable.getBoundCopy();
+
+        bindable.onValueChanged((event) -> notified.incrementAndGet());
+
+        assert !bindable.compareAndSet("other", "next");
+        assert bindable.compareAndSet(bindable.get(), "next");
+        assert other.get().equals("next");
+        assert notified.get() == 1;
+    }
+
+    @Test
+    public void testConcurrentUpdateAndGet() throws InterruptedException {
+        Bindable<Integer> bindable = new Bindable<>(0);
+        Bindable<Integer> other = bindable.getBoundCopy();
+
+        bindable.onValueChanged((event) -> notified.incrementAndGet());
+
+        concurrently(() -> bindable.updateAndGet((value) -> value + 1));
+
+        assert bindable.get() == THREADS * ITERATIONS;
+        assert notified.get() == THREADS * ITERATIONS;
+        assert other.get().equals(bindable.get());
+        assert other.get() == THREADS * ITERATIONS;
+    }
+
+    @Test
+    public void testConcurrentPrimitiveAdd() throws InterruptedException {
+        BindableInt bindable = new BindableInt(0);
+
+        bindable.onIntValueChanged((old, next) -> notified.incrementAndGet());
+
+        concurrently(() -> bindable.getAndAdd(1));
+
+        assert bindable.getInt() == THREADS * ITERATIONS;
+        assert notified.get() == THREADS * ITERATIONS;
+
+        assert bindable.getAndUpdateInt((value) -> value * 2) == THREADS * ITERATIONS;
+        assert bindable.getInt() == THREADS * ITERATIONS * 2;
+    }
+
+    @Test
+    public void testPrimitiveAddRespectsOwnerThread() throws InterruptedException {
+        BindableInt bindable = new BindableInt(0);
+        bindable.setScheduler(new BindingScheduler());
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread thread = new Thread(() -> {
+            try {
+                bindable.getAndAdd(1);
+            } catch (IllegalStateException e) {
+                failure.set(e);
+            }
+        });
+
+        thread.start();
+        thread.join();
+
+        assert failure.get() != null;
+        assert bindable.getInt() == 0;
+    }
+
+    @Test
+    public void testCompareAndSetUsesEqualityStrategy() {
+        Bindable<Integer> bindable = new Bindable<>(1000);
+
+        bindable.setEqualityStrategy(EqualityStrategy.equality());
+        bindable.onValueChanged((event) -> notified.incrementAndGet());
+
+        assert bindable.compareAndSet(Integer.valueOf(1000), Integer.valueOf(1000));
+        assert notified.get() == 0;
+
+        assert bindable.compareAndSet(Integer.valueOf(1000), 2000);
+        assert bindable.get() == 2000;
+        assert notified.get() == 1;
+
+        assert !bindable.compareAndSet(Integer.valueOf(1000), 3000);
+        assert bindable.get() == 2000;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+import me.ashydev.binding.bindable.Bindable;
+import me.ashydev.binding.bindable.primitive.BindableInt;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+public class BindableFootprintTest {
+    private static final int HEADER = 12, REFERENCE = 4, ALIGNMENT = 8;
+
+    // Shallow size from the declared instance fields, assuming compressed oops and class pointers.
+    private static int shallowSize(Class<?> type) {
+        int size = HEADER;
+
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) size += sizeOf(field.getType());
+            }
+        }
+
+        return (size + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+
+    private static int sizeOf(Class<?> type) {
+        if (type == long.class || type == double.class) return 8;
+        if (type == int.class || type == float.class) return 4;
+        if (type == short.class || type == char.class) return 2;
+        if (type == byte.class || type == boolean.class) return 1;
+
+        return REFERENCE;
+    }
+
+    @Test
+    public void testIdleFootprint() {
+        int idle = shallowSize(Bindable.class);
+
+        assert idle <= 32 : String.format("idle Bindable is %d bytes", idle);
+    }
+
+    @Test
+    public void testIdlePrimitiveFootprint() {
+        int idle = shallowSize(BindableInt.class);
+
+        assert idle <= 40 : String.format("idle BindableInt is %d bytes", idle);
+    }
+
+    @Test
+    public void testSideStateAllocatedOnFirstUse() throws ReflectiveOperationException {
+        Field state = Bindable.class.getDeclaredField("state");
+        Bindable<Integer> bindable = new Bindable<>(0);
+
+        state.setAccessible(true);
+
+        bindable.get();
+        bindable.isDisabled();
+
+        assert state.get(bindable) == null;
+
+        bindable.onValueChanged((event) -> {});
+
+        assert state.get(bindable) != null;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+import me.ashydev.binding.bindable.Bindable;
+import me.ashydev.binding.bindable.BindingApplier;
+import me.ashydev.binding.bindable.list.BindableList;
+import me.ashydev.binding.bindable.primitive.BindableDouble;
+import me.ashydev.binding.bindable.primitive.BindableInt;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class BindingApplierTest {
+    private static final int PRODUCERS = 4, WRITES = 2_000;
+
+    private static void produce(Runnable task) throws InterruptedException {
+        Thread[] threads = new Thread[PRODUCERS];
+
+        for (int i = 0; i < PRODUCERS; i++) {
+            threads[i] = new Thread(task);
+            threads[i].start();
+        }
+
+        for (Thread thread : threads) thread.join();
+    }
+
+    @Test
+    public void testWritesAppliedOnApplierThread() throws InterruptedException {
+        Bindable<Integer> bindable = new Bindable<>(0);
+        BindableList<Integer> list = new BindableList<>();
+        Set<Thread> writers = ConcurrentHashMap.newKeySet();
+        AtomicInteger added = new AtomicInteger();
+
+        try (BindingApplier applier = new BindingApplier(256, 32)) {
+            bindable.setScheduler(applier);
+            list.setScheduler(applier);
+
+            Bindable<Integer> other = bindable.getBoundCopy();
+
+            other.onValueChanged((event) -> writers.add(Thread.currentThread()));
+            list.onCollectionChanged((event) -> {
+                writers.add(Thread.currentThread());
+                added.incrementAndGet();
+            });
+
+            produce(() -> {
+                for (int i = 1; i <= WRITES; i++) {
+                    bindable.set(i);
+                    list.add(i);
+                }
+            });
+        }
+
+        assert list.size() == PRODUCERS * WRITES;
+        assert added.get() == PRODUCERS * WRITES;
+        assert bindable.get() == WRITES;
+        assert writers.size() == 1 && writers.iterator().next().getName().equals("binding-applier");
+    }
+
+    @Test
+    public void testPrimitiveWritesRoundTripThroughSlots() throws InterruptedException {
+        BindableInt count = new BindableInt(0);
+        BindableDouble ratio = new BindableDouble(0);
+
+        try (BindingApplier applier = new BindingApplier(64)) {
+            count.setScheduler(applier);
+            ratio.setScheduler(applier);
+
+            produce(() -> {
+                count.set(-7);
+                ratio.set(-0.125);
+            });
+        }
+
+        assert count.getInt() == -7;
+        assert ratio.getDouble() == -0.125;
+    }
+
+    @Test
+    public void testClosedApplierRejectsCommands() {
+        BindingApplier applier = new BindingApplier(16);
+        applier.close();
+
+        assert !applier.isRunning();
+
+        try {
+            applier.schedule(() -> {});
+
+            assert false;
+        } catch (IllegalStateException ignored) {
+        }
+    }
+
+    @Test
+    public void testBlockedProducerFailsOnClose() throws InterruptedException {
+        BindingApplier applier = new BindingApplier(4, 4);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        applier.schedule(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        Thread producer = new Thread(() -> {
+            try {
+                for (int i = 0; i < 8; i++) applier.schedule(() -> {});
+            } catch (IllegalStateException e) {
+                failure.set(e);
+            }
+        });
+        Thread closer = new Thread(applier::close);
+
+        producer.start();
+
+        while (producer.getState() != Thread.State.TIMED_WAITING && producer.isAlive()) Thread.onSpinWait();
+
+        closer.start();
+        producer.join(TimeUnit.SECONDS.toMillis(5));
+
+        assert !producer.isAlive();
+        assert failure.get() != null;
+
+        release.countDown();
+        closer.join();
+    }
+
+    @Test
+    public void testApplierThreadCannotWaitOnItself() throws InterruptedException {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        try (BindingApplier applier = new BindingApplier(4)) {
+            applier.schedule(() -> {
+                try {
+                    for (int i = 0; i < 8; i++) applier.schedule(() -> {});
+                } catch (IllegalStateException e) {
+                    failure.set(e);
+                }
+            });
+        }
+
+        assert failure.get() != null;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+import me.ashydev.binding.bindable.Bindable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BindingGroupTest {
+    private AtomicInteger sets;
+    private Bindable<Integer> first, second, third;
+
+    @BeforeEach
+    public void setUp() {
+        sets = new AtomicInteger();
+
+        first = counting();
+        second = counting();
+        third = counting();
+    }
+
+    private Bindable<Integer> counting() {
+        return new Bindable<>(0) {
+            @Override
+            public void set(Integer value) {
+                sets.incrementAndGet();
+
+                super.set(value);
+            }
+        };
+    }
+
+    @Test
+    public void testSingleSetPerMember() {
+        second.bindTo(first);
+        third.bindTo(second);
+        first.bindTo(third);
+
+        sets.set(0);
+        first.set(400);
+
+        assert first.get() == 400;
+        assert second.get() == 400;
+        assert third.get() == 400;
+        assert sets.get() == 3;
+    }
+
+    @Test
+    public void testListenersNotifiedOnce() {
+        final AtomicInteger notified = new AtomicInteger();
+
+        second.bindTo(first);
+        third.bindTo(first);
+
+        first.onValueChanged((event) -> notified.incrementAndGet());
+        second.onValueChanged((event) -> notified.incrementAndGet());
+        third.onValueChanged((event) -> notified.incrementAndGet());
+
+        third.set(400);
+
+        assert notified.get() == 3;
+    }
+
+    @Test
+    public void testUnbindSplitsGroup() {
+        second.bindTo(first);
+        third.bindTo(second);
+
+        second.unbindFrom(first);
+        first.set(400);
+
+        assert second.get() == 0;
+        assert third.get() == 0;
+
+        third.set(200);
+
+        assert second.get() == 200;
+        assert first.get() == 400;
+    }
+
+    @Test
+    public void testWeakDependentOutsideGroup() {
+        second.bindTo(first);
+        third.weakBind(second);
+
+        first.set(400);
+
+        assert third.get() == 400;
+
+        third.set(200);
+
+        assert first.get() == 400;
+        assert second.get() == 400;
+    }
+
+    @Test
+    public void testNestedSetFromListener() {
+        second.bindTo(first);
+        third.bindTo(first);
+
+        second.onValueChanged((event) -> {
+            if (event.getNew() == 400) second.set(200);
+        });
+
+        first.set(400);
+
+        assert first.get() == 200;
+        assert second.get() == 200;
+        assert third.get() == 200;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+import me.ashydev.binding.bindable.Bindable;
+import me.ashydev.binding.bindable.BindingTransaction;
+import me.ashydev.binding.bindable.primitive.BindableInt;
+import me.ashydev.binding.types.EqualityStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BindingTransactionTest {
+    private Bindable<String> bindable, other;
+    private AtomicInteger notified;
+
+    @BeforeEach
+    public void setUp() {
+        bindable = new Bindable<>("initial");
+        other = bindable.getBoundCopy();
+        notified = new AtomicInteger();
+    }
+
+    @Test
+    public void testCoalescesToNetChange() {
+        final String[] transition = new String[2];
+
+        other.onValueChanged((event) -> {
+            notified.incrementAndGet();
+            transition[0] = event.getOld();
+            transition[1] = event.getNew();
+        });
+
+        BindingTransaction.run(() -> {
+            bindable.set("first");
+            bindable.set("second");
+            bindable.set("third");
+
+            assert other.get().equals("third");
+            assert notified.get() == 0;
+        });
+
+        assert notified.get() == 1;
+        assert transition[0].equals("initial");
+        assert transition[1].equals("third");
+    }
+
+    @Test
+    public void testRevertedValueDoesNotFire() {
+        final String initial = bindable.get();
+
+        bindable.onValueChanged((event) -> notified.incrementAndGet());
+        bindable.onDisabledChanged((event) -> notified.incrementAndGet());
+
+        BindingTransaction.run(() -> {
+            bindable.set("changed");
+            bindable.setDisabled(true);
+            bindable.set(initial);
+            bindable.setDisabled(false);
+        });
+
+        assert notified.get() == 0;
+    }
+
+    @Test
+    public void testNestedScopesFlatten() {
+        bindable.onValueChanged((event) -> notified.incrementAndGet());
+
+        try (BindingTransaction ignored = BindingTransaction.begin()) {
+            bindable.set("outer");
+
+            BindingTransaction.run(() -> bindable.set("inner"));
+
+            assert notified.get() == 0;
+        }
+
+        assert notified.get() == 1;
+        assert !BindingTransaction.isActive();
+    }
+
+    @Test
+    public void testPrimitiveNetChange() {
+        BindableInt primitive = new BindableInt(0);
+        final AtomicInteger next = new AtomicInteger();
+
+        primitive.onIntValueChanged((o, n) -> {
+            notified.incrementAndGet();
+            next.set(n);
+        });
+
+        BindingTransaction.run(() -> {
+            for (int i = 1; i <= 200; i++)
+                primitive.set(i);
+        });
+
+        assert notified.get() == 1;
+        assert next.get() == 200;
+    }
+
+    @Test
+    public void testRevertUsesEqualityStrategy() {
+        bindable.setEqualityStrategy(EqualityStrategy.equality());
+        bindable.onValueChanged((event) -> notified.incrementAndGet());
+
+        BindingTransaction.run(() -> {
+            bindable.set("changed");
+            bindable.set(new String("initial"));
+        });
+
+        assert notified.get() == 0;
+    }
+
+    @Test
+    public void testThrowingListenerDoesNotDropChanges() {
+        Bindable<String> unrelated = new Bindable<>("unrelated");
+
+        bindable.onValueChanged((event) -> {
+            throw new IllegalStateException("listener failure");
+        });
+        unrelated.onValueChanged((event) -> notified.incrementAndGet());
+
+        boolean thrown = false;
+
+        try {
+            BindingTransaction.run(() -> {
+                bindable.set("changed");
+                unrelated.set("changed");
+            });
+        } catch (IllegalStateException e) {
+            thrown = true;
+        }
+
+        assert thrown;
+        assert notified.get() == 1;
+        assert !BindingTransaction.isActive();
+    }
+}
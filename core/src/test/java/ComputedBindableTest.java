@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+import me.ashydev.binding.bindable.Bindable;
+import me.ashydev.binding.bindable.ComputedBindable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ComputedBindableTest {
+    @Test
+    public void testRecomputesLazilyOnRead() {
+        Bindable<Integer> source = new Bindable<>(1);
+        AtomicInteger computations = new AtomicInteger();
+
+        ComputedBindable<String> computed = source.map((value) -> {
+            computations.incrementAndGet();
+
+            return "value " + value;
+        });
+
+        for (int i = 2; i <= 10; i++) source.set(i);
+
+        assert computations.get() == 0 && computed.isDirty();
+        assert computed.get().equals("value 10");
+        assert computed.get().equals("value 10");
+        assert computations.get() == 1;
+    }
+
+    @Test
+    public void testListenersReceiveRecomputedValues() {
+        Bindable<Integer> a = new Bindable<>(1);
+        Bindable<Integer> b = new Bindable<>(2);
+        List<Integer> received = new ArrayList<>();
+
+        ComputedBindable<Integer> sum = Bindable.combine(a, b, Integer::sum);
+
+        sum.onValueChanged((old, next) -> received.add(next));
+
+        a.set(10);
+        b.set(20);
+
+        assert received.equals(List.of(12, 30));
+        assert !sum.isDirty();
+    }
+
+    @Test
+    public void testComputedIsReadOnly() {
+        Bindable<Integer> source = new Bindable<>(1);
+        ComputedBindable<Integer> computed = new ComputedBindable<>(() -> source.get() * 2, source);
+
+        try {
+            computed.set(5);
+
+            assert false;
+        } catch (IllegalStateException ignored) {
+        }
+
+        assert computed.get() == 2;
+    }
+
+    @Test
+    public void testBoundCopyFollowsSources() {
+        Bindable<Integer> source = new Bindable<>(1);
+        ComputedBindable<Integer> computed = source.map((value) -> value + 1);
+        Bindable<Integer> copy = computed.getBoundCopy();
+
+        assert copy.get() == 2;
+
+        source.set(5);
+
+        assert copy.get() == 6;
+    }
+
+    @Test
+    public void testChainedComputedStaysLazy() {
+        Bindable<Integer> source = new Bindable<>(0);
+        AtomicInteger upstream = new AtomicInteger(), downstream = new AtomicInteger();
+
+        ComputedBindable<Integer> doubled = source.map((value) -> {
+            upstream.incrementAndGet();
+
+            return value * 2;
+        });
+
+        ComputedBindable<Integer> plusOne = doubled.map((value) -> {
+            downstream.incrementAndGet();
+
+            return value + 1;
+        });
+
+        for (int i = 1; i <= 100; i++) source.set(i);
+
+        assert upstream.get() == 0 && downstream.get() == 0;
+        assert plusOne.get() == 201;
+        assert upstream.get() == 1 && downstream.get() == 1;
+
+        plusOne.onValueChanged((event) -> {});
+        upstream.set(0);
+        downstream.set(0);
+
+        for (int i = 101; i <= 200; i++) source.set(i);
+
+        assert plusOne.get() == 401;
+        assert upstream.get() == 100 && downstream.get() == 100;
+    }
+
+    @Test
+    public void testConcurrentReadersNotifyOncePerChange() throws InterruptedException {
+        Bindable<Integer> source = new Bindable<>(0);
+        AtomicInteger notifications = new AtomicInteger(), repeated = new AtomicInteger();
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread[] readers = new Thread[4];
+
+        ComputedBindable<String> computed = source.map((value) -> {
+            for (int i = 0; i < 200; i++) Thread.onSpinWait();
+
+            return "value " + value;
+        });
+
+        computed.onValueChanged((old, next) -> {
+            notifications.incrementAndGet();
+
+            if (old.equals(next)) repeated.incrementAndGet();
+        });
+
+        for (int i = 0; i < readers.length; i++) {
+            readers[i] = new Thread(() -> {
+                while (running.get()) computed.get();
+            });
+            readers[i].start();
+        }
+
+        for (int i = 1; i <= 20_000; i++) source.set(i);
+
+        running.set(false);
+
+        for (Thread reader : readers) reader.join();
+
+        assert notifications.get() == 20_000 : notifications.get();
+        assert repeated.get() == 0;
+        assert computed.get().equals("value 20000");
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+import me.ashydev.binding.bindable.Bindable;
+import me.ashydev.binding.bindable.StrongBindable;
+import me.ashydev.binding.bindable.list.BindableList;
+import me.ashydev.binding.bindable.map.BindableMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class DeepBindingChainTest {
+    private static final int DEPTH = 20_000;
+
+    @Test
+    public void testStrongChain() {
+        List<Bindable<Integer>> chain = new ArrayList<>();
+        chain.add(new Bindable<>(0));
+
+        for (int i = 1; i < DEPTH; i++) {
+            Bindable<Integer> next = new Bindable<>(0);
+            next.bindTo(chain.get(i - 1));
+            chain.add(next);
+        }
+
+        chain.get(DEPTH - 1).set(400);
+
+        assert chain.get(0).get() == 400;
+    }
+
+    @Test
+    public void testWeakChain() {
+        List<Bindable<Integer>> chain = new ArrayList<>();
+        chain.add(new Bindable<>(0));
+
+        for (int i = 1; i < DEPTH; i++) {
+            Bindable<Integer> next = new Bindable<>(0);
+            next.weakBind(chain.get(i - 1));
+            chain.add(next);
+        }
+
+        final AtomicInteger seen = new AtomicInteger();
+
+        chain.get(0).onValueChanged((event) -> seen.set(chain.get(DEPTH - 1).get()));
+        chain.get(0).set(400);
+
+        assert chain.get(DEPTH - 1).get() == 400;
+        assert seen.get() == 400;
+
+        chain.get(0).setDisabled(true);
+
+        assert chain.get(DEPTH - 1).isDisabled();
+    }
+
+    @Test
+    public void testListChain() {
+        List<BindableList<Integer>> chain = new ArrayList<>();
+        chain.add(new BindableList<>());
+
+        for (int i = 1; i < DEPTH; i++) {
+            BindableList<Integer> next = new BindableList<>();
+            next.weakBind(chain.get(i - 1));
+            chain.add(next);
+        }
+
+        chain.get(0).add(400);
+
+        assert chain.get(DEPTH - 1).size() == 1;
+        assert chain.get(DEPTH - 1).get(0) == 400;
+    }
+
+    @Test
+    public void testMapChain() {
+        List<BindableMap<String, Integer>> chain = new ArrayList<>();
+        chain.add(new BindableMap<>());
+
+        for (int i = 1; i < DEPTH; i++) {
+            BindableMap<String, Integer> next = new BindableMap<>();
+            next.weakBind(chain.get(i - 1));
+            chain.add(next);
+        }
+
+        chain.get(0).put("value", 400);
+
+        assert chain.get(DEPTH - 1).get("value") == 400;
+    }
+
+    @Test
+    public void testNestedSetCompletesSynchronously() {
+        Bindable<Integer> first = new Bindable<>(0), second = new Bindable<>(0), third = new Bindable<>(0);
+        Bindable<Integer> mirror = new Bindable<>(0);
+
+        second.weakBind(first);
+        third.weakBind(second);
+
+        final AtomicInteger seen = new AtomicInteger();
+
+        second.onValueChanged((event) -> {
+            mirror.set(event.getNew());
+            seen.set(mirror.get());
+        });
+
+        first.set(400);
+
+        assert third.get() == 400;
+        assert seen.get() == 400;
+    }
+
+    @Test
+    public void testCyclicDefaultPropagation() {
+        StrongBindable<Integer> x = new StrongBindable<>(0), y = new StrongBindable<>(0), z = new StrongBindable<>(0);
+        final AtomicInteger notified = new AtomicInteger();
+
+        y.bindTo(x);
+        z.bindTo(y);
+        x.bindTo(z);
+
+        x.onDefaultChanged((event) -> notified.incrementAndGet());
+        y.onDefaultChanged((event) -> notified.incrementAndGet());
+        z.onDefaultChanged((event) -> notified.incrementAndGet());
+
+        x.setDefaultValue(7);
+
+        assert x.getDefaultValue() == 7;
+        assert y.getDefaultValue() == 7;
+        assert z.getDefaultValue() == 7;
+        assert notified.get() == 3;
+    }
+}
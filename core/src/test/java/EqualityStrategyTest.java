@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+import me.ashydev.binding.bindable.Bindable;
+import me.ashydev.binding.bindable.LeasedBindable;
+import me.ashydev.binding.bindable.primitive.BindableDouble;
+import me.ashydev.binding.types.EqualityStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class EqualityStrategyTest {
+    private record Point(int x, int y) {
+    }
+
+    private AtomicInteger notified;
+
+    @BeforeEach
+    public void setUp() {
+        notified = new AtomicInteger();
+    }
+
+    @Test
+    public void testIdentityByDefault() {
+        Bindable<Point> bindable = new Bindable<>(new Point(1, 2));
+
+        bindable.onValueChanged((event) -> notified.incrementAndGet());
+        bindable.set(new Point(1, 2));
+
+        assert notified.get() == 1;
+    }
+
+    @Test
+    public void testEqualitySuppressesEqualValues() {
+        Bindable<Integer> bindable = new Bindable<>(1000);
+        bindable.setEqualityStrategy(EqualityStrategy.equality());
+
+        bindable.onValueChanged((event) -> notified.incrementAndGet());
+        bindable.set(Integer.valueOf(1000));
+
+        assert notified.get() == 0;
+    }
+
+    @Test
+    public void testCarriedToBoundCopy() {
+        Bindable<Point> bindable = new Bindable<>(new Point(1, 2));
+        bindable.setEqualityStrategy(EqualityStrategy.equality());
+
+        Bindable<Point> copy = bindable.getBoundCopy();
+        copy.onValueChanged((event) -> notified.incrementAndGet());
+
+        bindable.set(new Point(1, 2));
+
+        assert notified.get() == 0;
+        assert copy.getEqualityStrategy() == bindable.getEqualityStrategy();
+    }
+
+    @Test
+    public void testEpsilonOnPrimitive() {
+        BindableDouble bindable = new BindableDouble(1.0);
+        bindable.setEqualityStrategy(EqualityStrategy.within(0.01));
+
+        bindable.onDoubleValueChanged((o, n) -> notified.incrementAndGet());
+
+        bindable.set(1.005);
+
+        assert notified.get() == 0;
+        assert bindable.getDouble() == 1.0;
+
+        bindable.set(1.5);
+
+        assert notified.get() == 1;
+    }
+
+    @Test
+    public void testComparator() {
+        Bindable<String> bindable = new Bindable<>("value");
+        bindable.setEqualityStrategy(EqualityStrategy.comparing(String.CASE_INSENSITIVE_ORDER));
+
+        bindable.onValueChanged((event) -> notified.incrementAndGet());
+        bindable.set("VALUE");
+
+        assert notified.get() == 0;
+        assert bindable.get().equals("value");
+    }
+
+    @Test
+    public void testLeaseComparesByEquals() {
+        Bindable<Integer> bindable = new Bindable<>(1000);
+        LeasedBindable<Integer> lease = new LeasedBindable<>(bindable, false);
+
+        bindable.onValueChanged((event) -> notified.incrementAndGet());
+        lease.set(Integer.valueOf(1000));
+
+        assert notified.get() == 0;
+        assert lease.getEqualityStrategy() != EqualityStrategy.identity();
+
+        lease.set(2000);
+
+        assert notified.get() == 1;
+        assert bindable.get() == 2000;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+import me.ashydev.binding.bindable.Bindable;
+import me.ashydev.binding.bindable.list.BindableList;
+import me.ashydev.binding.event.collection.CollectionEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class ExecutorListenerTest {
+    private static final int CHANGES = 1_000;
+
+    @Test
+    public void testValueChangesDeliveredInOrder() throws InterruptedException {
+        Bindable<Integer> bindable = new Bindable<>(0);
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(CHANGES);
+        Thread writer = Thread.currentThread();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            bindable.onValueChanged((event) -> {
+                assert Thread.currentThread() != writer;
+
+                received.add(event.getNew());
+                latch.countDown();
+            }, executor);
+
+            for (int i = 1; i <= CHANGES; i++) bindable.set(i);
+
+            assert latch.await(10, TimeUnit.SECONDS);
+        }
+
+        for (int i = 0; i < CHANGES; i++) assert received.get(i) == i + 1;
+    }
+
+    @Test
+    public void testCollectionChangesDeliveredOnExecutor() throws InterruptedException {
+        BindableList<Integer> list = new BindableList<>();
+        List<CollectionEvent<Integer>> received = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(3);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            list.onCollectionChanged((event) -> {
+                received.add(event);
+                latch.countDown();
+            }, executor);
+
+            list.add(1);
+            list.add(2);
+            list.remove(Integer.valueOf(1));
+
+            assert latch.await(10, TimeUnit.SECONDS);
+        }
+
+        assert received.get(2).getType() == CollectionEvent.Type.REMOVE;
+    }
+}
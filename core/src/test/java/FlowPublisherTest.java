@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+import me.ashydev.binding.action.event.ValueChangedEvent;
+import me.ashydev.binding.action.queue.OverflowStrategy;
+import me.ashydev.binding.bindable.Bindable;
+import me.ashydev.binding.bindable.list.BindableList;
+import me.ashydev.binding.bindable.map.BindableMap;
+import me.ashydev.binding.event.collection.CollectionEvent;
+import me.ashydev.binding.event.map.MapEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+public class FlowPublisherTest {
+    private static final class Recorder<E> implements Flow.Subscriber<E> {
+        private final List<E> received = new ArrayList<>();
+        private final long initial;
+        private Flow.Subscription subscription;
+        private Throwable error;
+
+        private Recorder(long initial) {
+            this.initial = initial;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+
+            if (initial > 0) subscription.request(initial);
+        }
+
+        @Override
+        public void onNext(E item) {
+            received.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+
+    @Test
+    public void testDemandIsHonoredAndOldestDropped() {
+        Bindable<Integer> bindable = new Bindable<>(0);
+        Recorder<ValueChangedEvent<Integer>> recorder = new Recorder<>(2);
+
+        bindable.publisher(OverflowStrategy.DROP_OLDEST, 2).subscribe(recorder);
+
+        for (int i = 1; i <= 5; i++) bindable.set(i);
+
+        assert recorder.received.size() == 2;
+
+        recorder.subscription.request(10);
+
+        List<Integer> values = recorder.received.stream().map(ValueChangedEvent::getNew).toList();
+
+        assert values.equals(List.of(1, 2, 4, 5));
+    }
+
+    @Test
+    public void testConflateMergesPendingChanges() {
+        Bindable<Integer> bindable = new Bindable<>(0);
+        Recorder<ValueChangedEvent<Integer>> recorder = new Recorder<>(0);
+
+        bindable.publisher(OverflowStrategy.CONFLATE, 1).subscribe(recorder);
+
+        for (int i = 1; i <= 5; i++) bindable.set(i);
+
+        recorder.subscription.request(1);
+
+        assert recorder.received.size() == 1;
+        assert recorder.received.getFirst().getOld() == 0 && recorder.received.getFirst().getNew() == 5;
+    }
+
+    @Test
+    public void testBoundedBufferOverflowSignalsError() {
+        BindableList<Integer> list = new BindableList<>();
+        Recorder<CollectionEvent<Integer>> recorder = new Recorder<>(0);
+
+        list.publisher(OverflowStrategy.BUFFER_BOUNDED, 2).subscribe(recorder);
+
+        list.add(1);
+        list.add(2);
+
+        assert recorder.error == null;
+
+        list.add(3);
+
+        assert recorder.error instanceof IllegalStateException;
+        assert list.getCollectionChanged().isEmpty();
+    }
+
+    @Test
+    public void testCancelUnsubscribes() {
+        BindableMap<String, Integer> map = new BindableMap<>();
+        Recorder<MapEvent<String, Integer>> recorder = new Recorder<>(Long.MAX_VALUE);
+
+        map.publisher(OverflowStrategy.DROP_OLDEST, 4).subscribe(recorder);
+
+        map.put("a", 1);
+        recorder.subscription.cancel();
+        map.put("b", 2);
+
+        assert recorder.received.size() == 1;
+        assert map.getCollectionChanged().isEmpty();
+    }
+}
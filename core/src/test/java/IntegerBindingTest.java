@@ -61,4 +61,11 @@ public class IntegerBindingTest {
 
         assert bindable.get() == 200;
     }
+
+    @Test
+    public void testTypeSurvivesNull() {
+        bindable.set(null);
+
+        assert bindable.getType() == Integer.class;
+    }
 }
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+import me.ashydev.binding.bindable.Bindable;
+import me.ashydev.binding.bindable.primitive.BindableDouble;
+import me.ashydev.binding.bindable.primitive.BindableFloat;
+import me.ashydev.binding.bindable.primitive.BindableInt;
+import me.ashydev.binding.bindable.primitive.BindableLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class PrimitiveBindingTest {
+    private BindableInt bindable, other;
+
+    @BeforeEach
+    public void setUp() {
+        bindable = new BindableInt(0);
+        other = new BindableInt(0);
+    }
+
+    @Test
+    public void testBind() {
+        other.bindTo(bindable);
+        bindable.set(400);
+
+        assert other.getInt() == 400;
+    }
+
+    @Test
+    public void testPrimitiveListener() {
+        final AtomicInteger old = new AtomicInteger(-1), next = new AtomicInteger(-1);
+
+        bindable.onIntValueChanged((o, n) -> {
+            old.set(o);
+            next.set(n);
+        });
+
+        bindable.set(1000);
+
+        assert old.get() == 0 && next.get() == 1000;
+    }
+
+    @Test
+    public void testBoxedSetComparesByValue() {
+        final AtomicInteger invocations = new AtomicInteger();
+
+        bindable.set(1000);
+        bindable.onValueChanged((event) -> invocations.incrementAndGet());
+
+        bindable.set(Integer.valueOf(1000));
+
+        assert invocations.get() == 0;
+    }
+
+    @Test
+    public void testBindToBoxed() {
+        Bindable<Integer> boxed = new Bindable<>(0);
+
+        boxed.bindTo(bindable);
+        bindable.set(25);
+
+        assert boxed.get() == 25;
+
+        boxed.set(50);
+
+        assert bindable.getInt() == 50;
+    }
+
+    @Test
+    public void testBoxedNullIsRejected() {
+        BindableLong bindable = new BindableLong(3L);
+        Bindable<Long> boxed = new Bindable<>(3L);
+
+        boxed.bindTo(bindable);
+
+        try {
+            boxed.set(null);
+
+            assert false;
+        } catch (IllegalArgumentException ignored) {
+        }
+
+        try {
+            bindable.compareAndSet(3L, null);
+
+            assert false;
+        } catch (IllegalArgumentException ignored) {
+        }
+
+        assert !bindable.compareAndSet(null, 4L);
+        assert bindable.getLong() == 3L;
+    }
+
+    @Test
+    public void testBoxedUpdateRejectsNull() {
+        class Exposed extends BindableFloat {
+            void update(Float value) {
+                updateValue(value, null);
+            }
+        }
+
+        Exposed bindable = new Exposed();
+
+        bindable.update(1.5f);
+
+        assert bindable.getFloat() == 1.5f;
+
+        try {
+            bindable.update(null);
+
+            assert false;
+        } catch (IllegalArgumentException ignored) {
+        }
+
+        assert bindable.getFloat() == 1.5f;
+    }
+
+    @Test
+    public void testNaNIsUnchanged() {
+        final AtomicInteger invocations = new AtomicInteger();
+        BindableDouble bindable = new BindableDouble(Double.NaN);
+
+        bindable.onDoubleValueChanged((o, n) -> invocations.incrementAndGet());
+        bindable.set(Double.NaN);
+
+        assert invocations.get() == 0;
+    }
+
+    @Test
+    public void testDeferredDoubleKeepsValues() {
+        final double[] received = new double[2];
+        BindableDouble bindable = new BindableDouble(0.5);
+        BindableDouble copy = bindable.getWeakCopy();
+
+        copy.onDoubleValueChanged((o, n) -> {
+            received[0] = o;
+            received[1] = n;
+        });
+
+        bindable.set(-1.25);
+
+        assert received[0] == 0.5 && received[1] == -1.25;
+    }
+
+    @Test
+    public void testWeaklyBoundListenerDoesNotAllocate() {
+        final AtomicLong sum = new AtomicLong();
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        BindableInt copy = bindable.getWeakCopy();
+
+        copy.onIntValueChanged((o, n) -> sum.addAndGet(n));
+
+        for (int i = 1; i <= 20_000; i++)
+            bindable.set(i);
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+
+        for (int i = 20_001; i <= 40_000; i++)
+            bindable.set(i);
+
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assert copy.getInt() == 40_000;
+        assert sum.get() == 40_000L * 40_001L / 2;
+        assert allocated < 20_000 : String.format("allocated %d bytes over 20000 sets", allocated);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+import me.ashydev.binding.action.execution.Scheduler;
+import me.ashydev.binding.bindable.Bindable;
+import me.ashydev.binding.bindable.BindingScheduler;
+import me.ashydev.binding.bindable.list.BindableList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class SchedulerTest {
+    private Scheduler scheduler;
+    private AtomicInteger notified;
+
+    @BeforeEach
+    public void setUp() {
+        scheduler = new BindingScheduler();
+        notified = new AtomicInteger();
+    }
+
+    private static void offThread(Runnable task) throws InterruptedException {
+        Thread thread = new Thread(task);
+
+        thread.start();
+        thread.join();
+    }
+
+    @Test
+    public void testOffThreadWritesAppliedOnUpdate() throws InterruptedException {
+        Bindable<Integer> bindable = new Bindable<>(0);
+        bindable.setScheduler(scheduler);
+
+        Bindable<Integer> other = bindable.getBoundCopy();
+        AtomicReference<Thread> listenerThread = new AtomicReference<>();
+
+        other.onValueChanged((event) -> {
+            notified.incrementAndGet();
+            listenerThread.set(Thread.currentThread());
+        });
+
+        offThread(() -> {
+            for (int i = 1; i <= 3; i++) bindable.set(i);
+        });
+
+        assert bindable.get() == 0 && notified.get() == 0;
+        assert scheduler.hasPending();
+
+        assert scheduler.update() == 3;
+
+        assert bindable.get() == 3 && other.get() == 3;
+        assert notified.get() == 1;
+        assert listenerThread.get() == Thread.currentThread();
+        assert !scheduler.hasPending();
+    }
+
+    @Test
+    public void testOwnerWritesApplyImmediately() {
+        Bindable<String> bindable = new Bindable<>("initial");
+        bindable.setScheduler(scheduler);
+
+        bindable.set("next");
+
+        assert bindable.get().equals("next");
+        assert scheduler.update() == 0;
+    }
+
+    @Test
+    public void testOffThreadListMutations() throws InterruptedException {
+        BindableList<Integer> list = new BindableList<>();
+        list.setScheduler(scheduler);
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        offThread(() -> {
+            list.add(1);
+            list.addAll(List.of(2, 3));
+
+            try {
+                list.remove(Integer.valueOf(1));
+            } catch (IllegalStateException e) {
+                failure.set(e);
+            }
+        });
+
+        assert list.isEmpty();
+        assert failure.get() != null;
+
+        scheduler.update();
+
+        assert list.size() == 3;
+    }
+
+    @Test
+    public void testUpdateFromOtherThreadFails() throws InterruptedException {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        offThread(() -> {
+            try {
+                scheduler.update();
+            } catch (IllegalStateException e) {
+                failure.set(e);
+            }
+        });
+
+        assert failure.get() != null;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+import me.ashydev.binding.bindable.Bindable;
+import me.ashydev.binding.bindable.list.BindableList;
+import me.ashydev.binding.bindable.map.BindableMap;
+import me.ashydev.binding.bindable.primitive.BindableInt;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class VersionTest {
+    @Test
+    public void testBindableVersion() {
+        Bindable<String> bindable = new Bindable<>("initial");
+        Bindable<String> other = bindable.getBoundCopy();
+
+        long version = bindable.version(), otherVersion = other.version();
+
+        bindable.set(bindable.get());
+
+        assert bindable.version() == version;
+
+        bindable.set("next");
+
+        assert bindable.version() > version;
+        assert other.version() > otherVersion;
+
+        version = bindable.version();
+        bindable.setDisabled(true);
+
+        assert bindable.version() > version;
+    }
+
+    @Test
+    public void testPrimitiveVersion() {
+        BindableInt bindable = new BindableInt(0);
+
+        long version = bindable.version();
+
+        bindable.getAndAdd(0);
+        bindable.set(0);
+
+        assert bindable.version() == version;
+
+        bindable.getAndAdd(1);
+
+        assert bindable.version() == version + 1;
+    }
+
+    @Test
+    public void testCollectionVersion() {
+        BindableList<Integer> list = new BindableList<>();
+        BindableMap<String, Integer> map = new BindableMap<>();
+
+        long listVersion = list.version(), mapVersion = map.version();
+
+        list.removeAll(List.of(1));
+
+        assert list.version() == listVersion;
+
+        list.add(1);
+        map.put("value", 1);
+
+        assert list.version() > listVersion;
+        assert map.version() > mapVersion;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2024 Ashley (uwuvern) <uwuvern@outlook.com>
+ *
+ * This project is licensed under the MIT license, check the root of the project for
+ * more information.
+ */
+
+import me.ashydev.binding.action.Subscription;
+import me.ashydev.binding.bindable.Bindable;
+import me.ashydev.binding.bindable.list.BindableList;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+public class WeakListenerTest {
+    private static final class View {
+        private final List<Integer> received = new ArrayList<>();
+    }
+
+    @Test
+    public void testOwnerReceivesChanges() {
+        Bindable<Integer> bindable = new Bindable<>(0);
+        View view = new View();
+
+        Subscription subscription = bindable.onValueChanged(view, (owner, event) -> owner.received.add(event.getNew()));
+
+        bindable.set(1);
+        subscription.unsubscribe();
+        bindable.set(2);
+
+        assert view.received.equals(List.of(1));
+    }
+
+    @Test
+    public void testCollectedOwnerIsPurged() throws InterruptedException {
+        Bindable<Integer> bindable = new Bindable<>(0);
+        View view = new View();
+        WeakReference<View> reference = new WeakReference<>(view);
+
+        Subscription subscription = bindable.onValueChanged(view, (owner, event) -> owner.received.add(event.getNew()));
+        view = null;
+
+        awaitCollection(reference);
+
+        // Registration drains the reference queue, so the dead listener is gone without a dispatch.
+        for (int i = 0; i < 100 && subscription.isSubscribed(); i++) {
+            bindable.onValueChanged((event) -> {}).unsubscribe();
+
+            Thread.sleep(10);
+        }
+
+        assert !subscription.isSubscribed();
+        assert bindable.getValueChanged().isEmpty();
+    }
+
+    @Test
+    public void testCollectedListOwnerIsPurged() throws InterruptedException {
+        BindableList<Integer> list = new BindableList<>();
+        View view = new View();
+        WeakReference<View> reference = new WeakReference<>(view);
+
+        Subscription subscription = list.onCollectionChanged(view, (owner, event) -> owner.received.add(event.getType().ordinal()));
+        list.add(1);
+
+        assert view.received.size() == 1;
+
+        view = null;
+
+        awaitCollection(reference);
+
+        for (int i = 0; i < 100 && subscription.isSubscribed(); i++) {
+            list.onCollectionChanged((event) -> {}).unsubscribe();
+
+            Thread.sleep(10);
+        }
+
+        assert !subscription.isSubscribed();
+    }
+
+    private static void awaitCollection(WeakReference<?> reference) throws InterruptedException {
+        for (int i = 0; i < 100 && reference.get() != null; i++) {
+            System.gc();
+
+            Thread.sleep(10);
+        }
+
+        assert reference.get() == null;
+    }
+}